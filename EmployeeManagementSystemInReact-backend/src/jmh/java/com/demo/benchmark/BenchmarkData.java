@@ -0,0 +1,71 @@
+package com.demo.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+
+/** Deterministic, realistically populated fixtures shared by the benchmarks. */
+final class BenchmarkData {
+
+	private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "HR", "Support", "Marketing"};
+	private static final String[] CITIES = {"Pune", "Mumbai", "Bengaluru", "Hyderabad", "Delhi", "Chennai"};
+	private static final String[] WORK_MODELS = {"Remote", "Hybrid", "Office"};
+
+	private BenchmarkData() {}
+
+	static List<Employee> employees(int count) {
+		Random random = new Random(42);
+		LocalDate base = LocalDate.of(2015, 1, 1);
+		List<Employee> employees = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Employee e = new Employee();
+			e.setId(i + 1);
+			e.setEmployeeId(String.format("EMP-%05d", i + 1));
+			e.setName("Employee Number " + i);
+			e.setEmail("employee" + i + "@example.com");
+			e.setPhone("+91-98" + String.format("%08d", i));
+			e.setDepartment(DEPARTMENTS[i % DEPARTMENTS.length]);
+			e.setDesignation("Engineer II");
+			e.setSalary(40000 + random.nextInt(160000) * 1.0);
+			e.setJoiningDate(base.plusDays(random.nextInt(3650)));
+			e.setStatus(i % 10 == 0 ? "INACTIVE" : "ACTIVE");
+			e.setEmploymentType("Full-Time");
+			e.setWorkModel(WORK_MODELS[i % WORK_MODELS.length]);
+			e.setLinkedin("https://linkedin.com/in/employee" + i);
+			e.setTransportationAllowance(1500.0);
+			e.setMealAllowance(2200.0);
+			e.setInternetAllowance(800.0);
+			e.setHealthInsurance(12000.0);
+			e.setLifeInsurance(6000.0);
+			e.setGender(i % 2 == 0 ? "Female" : "Male");
+			e.setDob(LocalDate.of(1985, 1, 1).plusDays(random.nextInt(5000)));
+			e.setAddress(i + " MG Road, Block " + (i % 40));
+			e.setCity(CITIES[i % CITIES.length]);
+			e.setExperience((i % 15) + " years");
+			employees.add(e);
+		}
+		return employees;
+	}
+
+	static List<Attendance> attendance(Employee employee, int days) {
+		Random random = new Random(7);
+		LocalDate start = LocalDate.of(2020, 1, 1);
+		List<Attendance> rows = new ArrayList<>(days);
+		for (int d = 0; d < days; d++) {
+			Attendance a = new Attendance();
+			a.setId((long) d + 1);
+			a.setEmployee(employee);
+			a.setDate(start.plusDays(d));
+			a.setCheckIn(LocalTime.of(9, random.nextInt(60)));
+			a.setCheckOut(LocalTime.of(17, random.nextInt(60)));
+			a.setWorkingHours(7.0 + random.nextInt(180) / 60.0);
+			rows.add(a);
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,90 @@
+package com.demo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+
+/**
+ * The in-memory pipelines getDashboardStats used to run on every request:
+ * sorting the whole directory by joining date to keep three new hires, and
+ * averaging an employee's entire attendance history for the performance score.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardAggregationBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class Directory {
+
+		@Param({"1000", "10000", "100000"})
+		public int employees;
+
+		List<Employee> employeeList;
+
+		@Setup
+		public void setup() {
+			employeeList = BenchmarkData.employees(employees);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class History {
+
+		@Param({"250", "2500"})
+		public int attendanceDays;
+
+		List<Attendance> records;
+
+		@Setup
+		public void setup() {
+			records = BenchmarkData.attendance(BenchmarkData.employees(1).get(0), attendanceDays);
+		}
+	}
+
+	@Benchmark
+	public List<Map<String, String>> newestHiresBySort(Directory directory) {
+		List<Map<String, String>> activities = new ArrayList<>();
+		directory.employeeList.stream()
+			.sorted((e1, e2) -> e2.getJoiningDate().compareTo(e1.getJoiningDate()))
+			.limit(3)
+			.forEach(e -> activities.add(Map.of(
+					"text", "New hire: " + e.getName() + " joined " + e.getDepartment(),
+					"time", "Recent",
+					"type", "HIRE")));
+		return activities;
+	}
+
+	@Benchmark
+	public long activeHeadcount(Directory directory) {
+		return directory.employeeList.stream()
+				.filter(e -> "ACTIVE".equalsIgnoreCase(e.getStatus()))
+				.count();
+	}
+
+	@Benchmark
+	public String performanceScoreFromHistory(History history) {
+		double avgHours = history.records.stream()
+				.mapToDouble(a -> a.getWorkingHours() != null ? a.getWorkingHours() : 0.0)
+				.average().orElse(0.0);
+		return avgHours >= 8.5 ? "A+" : avgHours >= 7.5 ? "A" : avgHours >= 6.0 ? "B" : "C";
+	}
+}
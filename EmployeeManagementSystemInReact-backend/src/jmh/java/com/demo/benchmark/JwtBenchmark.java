@@ -0,0 +1,72 @@
+package com.demo.benchmark;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.demo.util.JwtTokenProvider;
+import com.demo.util.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token issue and verification. {@code parseWithFreshParser} is the per-call
+ * key derivation and parser build the filter used to do three times per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+	private static final String SECRET = "SUPER_SECRET_KEY_TEST_123_LONG_VERSION_REQUIRED";
+
+	private JwtTokenProvider provider;
+	private JwtParser sharedParser;
+	private String token;
+
+	@Setup
+	public void setup() {
+		provider = new JwtTokenProvider();
+		ReflectionTestUtils.setField(provider, "cache", new VerifiedTokenCache(10_000));
+		sharedParser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+		token = provider.generateToken("bench@example.com", "ROLE_USER", 0);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return provider.generateToken("bench@example.com", "ROLE_USER", 0);
+	}
+
+	@Benchmark
+	public Claims parseWithFreshParser() {
+		Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+	}
+
+	@Benchmark
+	public Claims parseWithSharedParser() {
+		return sharedParser.parseClaimsJws(token).getBody();
+	}
+
+	@Benchmark
+	public VerifiedTokenCache.VerifiedToken verifyCached() {
+		return provider.verify(token);
+	}
+}
@@ -0,0 +1,97 @@
+package com.demo.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.demo.dto.ApiResponse;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Encoding cost of the bulk employee and attendance payloads in JSON, gzipped
+ * JSON, CBOR and Smile, with each encoding's size reported by {@link PayloadSize}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PayloadEncodingBenchmark {
+
+	@Param({"employees", "attendance"})
+	public String payloadType;
+
+	@Param({"1000", "10000"})
+	public int rows;
+
+	private ObjectMapper json;
+	private ObjectMapper cbor;
+	private ObjectMapper smile;
+	private Object payload;
+
+	@Setup
+	public void setup() throws Exception {
+		// Same builder the application uses for its converters.
+		json = Jackson2ObjectMapperBuilder.json().build();
+		cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+		smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+		if ("employees".equals(payloadType)) {
+			payload = ApiResponse.success(BenchmarkData.employees(rows), "Employees retrieved successfully");
+		} else {
+			List<Attendance> attendance = new ArrayList<>(rows);
+			for (Employee e : BenchmarkData.employees(Math.max(1, rows / 250))) {
+				attendance.addAll(BenchmarkData.attendance(e, 250));
+			}
+			payload = ApiResponse.success(attendance.subList(0, Math.min(rows, attendance.size())), "Attendance retrieved successfully");
+		}
+	}
+
+	@Benchmark
+	public byte[] json(PayloadSize size) throws Exception {
+		return size.record(json.writeValueAsBytes(payload));
+	}
+
+	@Benchmark
+	public byte[] jsonGzip(PayloadSize size) throws Exception {
+		return size.record(gzip(json.writeValueAsBytes(payload)));
+	}
+
+	@Benchmark
+	public byte[] cbor(PayloadSize size) throws Exception {
+		return size.record(cbor.writeValueAsBytes(payload));
+	}
+
+	@Benchmark
+	public byte[] smile(PayloadSize size) throws Exception {
+		return size.record(smile.writeValueAsBytes(payload));
+	}
+
+	private static byte[] gzip(byte[] bytes) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+		try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+			gz.write(bytes);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,32 @@
+package com.demo.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Reports the encoded size of a benchmark's payload as one line in the run
+ * log at the end of each trial. The size is a property of the payload, not a
+ * rate, so it is kept out of JMH's results; every thread encodes the same
+ * payload, so one shared value serves any thread count.
+ */
+@State(Scope.Benchmark)
+public class PayloadSize {
+
+	private volatile int bytes;
+
+	byte[] record(byte[] encoded) {
+		bytes = encoded.length;
+		return encoded;
+	}
+
+	@TearDown(Level.Trial)
+	public void report(BenchmarkParams params) {
+		String label = params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1);
+		StringBuilder args = new StringBuilder();
+		for (String key : params.getParamsKeys()) args.append(' ').append(key).append('=').append(params.getParam(key));
+		System.out.println("payload size: " + label + args + " -> " + bytes + " bytes");
+	}
+}
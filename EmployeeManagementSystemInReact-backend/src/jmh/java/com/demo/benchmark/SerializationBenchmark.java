@@ -0,0 +1,49 @@
+package com.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.demo.dto.ApiResponse;
+import com.demo.entity.Employee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** JSON encoding of the /api/getEmployee payload at increasing directory sizes; {@link PayloadSize} reports its bytes. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SerializationBenchmark {
+
+	@Param({"1000", "10000", "100000"})
+	public int rows;
+
+	private ObjectMapper mapper;
+	private ApiResponse<List<Employee>> payload;
+
+	@Setup
+	public void setup() throws Exception {
+		// Same module set Spring Boot registers on its ObjectMapper.
+		mapper = Jackson2ObjectMapperBuilder.json().build();
+		payload = ApiResponse.success(BenchmarkData.employees(rows), "Employees retrieved successfully");
+	}
+
+	@Benchmark
+	public byte[] serializeEmployeeList(PayloadSize size) throws Exception {
+		return size.record(mapper.writeValueAsBytes(payload));
+	}
+}
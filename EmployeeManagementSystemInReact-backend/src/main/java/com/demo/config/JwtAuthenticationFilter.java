@@ -1,17 +1,25 @@
 package com.demo.config;
 
 import java.io.IOException;
+import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.demo.employeeService.StreamTicketService;
+import com.demo.employeeService.TokenRevocationService;
 import com.demo.employeeService.ServiceImp.CustomUserDetailsService;
 import com.demo.util.JwtTokenProvider;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,12 +28,23 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+	private static final String STREAM_PATH = "/api/dashboard/stream";
+
 	
 	@Autowired
 	private JwtTokenProvider jwtProvider;
 	
 	@Autowired
     private CustomUserDetailsService userService;
+
+	@Autowired
+	private TokenRevocationService revocations;
+
+	@Autowired
+	private StreamTicketService streamTickets;
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
@@ -40,35 +59,65 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		  String token = null;
 	        String email = null;
 	        
+	        if (header == null && STREAM_PATH.equals(request.getRequestURI())
+	                && SecurityContextHolder.getContext().getAuthentication() == null) {
+	            // EventSource cannot send headers; the stream takes a single-use ticket instead of the JWT.
+	            StreamTicketService.Holder holder = streamTickets.redeem(request.getParameter("ticket"));
+	            if (holder != null) {
+	                List<SimpleGrantedAuthority> authorities = holder.authorities().stream().map(SimpleGrantedAuthority::new).toList();
+	                SecurityContextHolder.getContext().setAuthentication(
+	                        new UsernamePasswordAuthenticationToken(new User(holder.email(), "", authorities), null, authorities));
+	            }
+	        }
+
 	        if (header != null && header.startsWith("Bearer ")) {
 	            token = header.substring(7);
 	            try {
+	                // Verified once here; validateToken below is answered from the token cache.
 	                email = jwtProvider.extractUsername(token);
-	                System.out.println("JWT Filter: Extracted email: " + email + " from token");
+	                log.debug("JWT Filter: Extracted email: {} from token", email);
 	            } catch (Exception e) {
-	                System.err.println("JWT Filter: Failed to extract email from token: " + e.getMessage());
+	                log.warn("JWT Filter: Failed to extract email from token: {}", e.getMessage());
 	            }
 	        } else {
-	            System.out.println("JWT Filter: No valid Bearer header found for " + request.getRequestURI());
+	            log.debug("JWT Filter: No valid Bearer header found for {}", request.getRequestURI());
 	        }
 
 
 	        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-	            UserDetails userDetails = userService.loadUserByUsername(email);
+	            Claims claims = jwtProvider.verify(token).claims();
+	            Object role = claims.get(JwtTokenProvider.ROLE_CLAIM);
+	            Object epoch = claims.get(JwtTokenProvider.EPOCH_CLAIM);
 
-	            if (jwtProvider.validateToken(token, userDetails)) {
-	                System.out.println("JWT Filter: Token validated for " + email);
-	                UsernamePasswordAuthenticationToken auth =
-	                        new UsernamePasswordAuthenticationToken(
-	                                userDetails,
-	                                null,
-	                                userDetails.getAuthorities()
-	                        );
-
-	                SecurityContextHolder.getContext().setAuthentication(auth);
+	            if (role != null && epoch != null) {
+	                // Authorities travel in the token, so no user lookup is needed.
+	                if (revocations.isRevoked(email, ((Number) epoch).longValue())) {
+	                    log.debug("JWT Filter: Token revoked for {}", email);
+	                } else {
+	                    List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role.toString()));
+	                    UserDetails principal = new User(email, "", authorities);
+	                    SecurityContextHolder.getContext().setAuthentication(
+	                            new UsernamePasswordAuthenticationToken(principal, null, authorities));
+	                }
 	            } else {
-	                System.out.println("JWT Filter: Token validation FAILED for " + email);
+	                // Tokens issued before role/epoch claims existed. They carry no epoch, so /logout
+	                // cannot revoke them before they expire; the user lookup does pick up role changes.
+	                UserDetails userDetails = userService.loadUserByUsername(email);
+
+	                if (jwtProvider.validateToken(token, userDetails)) {
+	                    log.debug("JWT Filter: Token validated for {}", email);
+	                    UsernamePasswordAuthenticationToken auth =
+	                            new UsernamePasswordAuthenticationToken(
+	                                    userDetails,
+	                                    null,
+	                                    userDetails.getAuthorities()
+	                            );
+
+	                    SecurityContextHolder.getContext().setAuthentication(auth);
+	                } else {
+	                    log.debug("JWT Filter: Token validation FAILED for {}", email);
+	                }
 	            }
 	        }
 
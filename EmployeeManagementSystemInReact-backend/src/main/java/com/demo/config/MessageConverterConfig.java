@@ -0,0 +1,37 @@
+package com.demo.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * CBOR and Smile responses for clients that ask for them in Accept. The binary
+ * converters are built from Spring Boot's Jackson builder, so dates, modules and
+ * spring.jackson.* settings match the JSON output. They are appended after the
+ * JSON converter, which stays the default for browsers and Accept: *&#47;*.
+ */
+@Configuration
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+	@Autowired
+	private ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		// Spring MVC registers its own when the modules are on the classpath; those skip Boot's settings.
+		converters.removeIf(c -> c instanceof MappingJackson2CborHttpMessageConverter
+				|| c instanceof MappingJackson2SmileHttpMessageConverter);
+		converters.add(new MappingJackson2CborHttpMessageConverter(builders.getObject().factory(new CBORFactory()).build()));
+		converters.add(new MappingJackson2SmileHttpMessageConverter(builders.getObject().factory(new SmileFactory()).build()));
+	}
+}
@@ -0,0 +1,52 @@
+package com.demo.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.demo.util.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class MetricsConfig {
+
+	/** Routes every connection through the statement counter; static so it applies to the DataSource bean itself. */
+	@Bean
+	public static BeanPostProcessor statementCountingDataSource(ObjectProvider<SqlStatementCounter> counter) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof DataSource dataSource ? counter.getObject().wrap(dataSource) : bean;
+			}
+		};
+	}
+
+	@Bean
+	public MeterBinder sqlStatementMetrics(SqlStatementCounter counter) {
+		return registry -> FunctionCounter.builder("jdbc.statements", counter, SqlStatementCounter::total)
+				.description("SQL statements executed over JDBC")
+				.register(registry);
+	}
+
+	@Bean
+	public MeterBinder jwtCacheMetrics(VerifiedTokenCache cache) {
+		return registry -> {
+			FunctionCounter.builder("jwt.cache.requests", cache, VerifiedTokenCache::hitCount)
+					.tag("result", "hit").register(registry);
+			FunctionCounter.builder("jwt.cache.requests", cache, VerifiedTokenCache::missCount)
+					.tag("result", "miss").register(registry);
+			Gauge.builder("jwt.cache.size", cache, VerifiedTokenCache::size).register(registry);
+			Gauge.builder("jwt.cache.hit.ratio", cache, c -> {
+				long hits = c.hitCount();
+				long total = hits + c.missCount();
+				return total == 0 ? 0.0 : (double) hits / total;
+			}).register(registry);
+		};
+	}
+}
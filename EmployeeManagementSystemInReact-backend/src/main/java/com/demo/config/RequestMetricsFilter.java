@@ -0,0 +1,51 @@
+package com.demo.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records how many SQL statements each request issued, tagged like the
+ * http.server.requests timer so the two can be read side by side.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+	@Autowired
+	private SqlStatementCounter statements;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		statements.begin();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			long count = statements.end();
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder("http.server.requests.jdbc.statements")
+					.description("SQL statements issued while handling one request")
+					.tag("method", request.getMethod())
+					.tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+					.publishPercentileHistogram()
+					.register(registry)
+					.record(count);
+		}
+	}
+}
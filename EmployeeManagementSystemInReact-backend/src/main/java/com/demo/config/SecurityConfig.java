@@ -1,8 +1,13 @@
 package com.demo.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -11,13 +16,17 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpMethod;
 import java.util.List;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
@@ -28,6 +37,9 @@ public class SecurityConfig {
 	 
 	 @Autowired
 	 private JwtAuthenticationFilter jwtFilter;
+
+	 @Value("${app.metrics.scrape-networks:127.0.0.1/32,::1/128}")
+	 private List<String> scrapeNetworks;
 	 
 	 @Bean
 	  public PasswordEncoder passwordEncoder() {
@@ -40,7 +52,12 @@ public class SecurityConfig {
 		  	.cors(Customizer.withDefaults()) 
 	        .csrf(csrf -> csrf.disable())
 	        .authorizeHttpRequests(auth -> auth
+	        	// Completion of an open dashboard stream; the original request was already authorized.
+	        	.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 	        	.requestMatchers("/api/auth/**").permitAll()
+	        	.requestMatchers("/actuator/health").permitAll()
+	        	.requestMatchers("/actuator/prometheus").access(AuthorizationManagers.anyOf(fromScrapeNetwork(), AuthorityAuthorizationManager.hasRole("ADMIN")))
+	        	.requestMatchers("/actuator/**").hasRole("ADMIN")
 	        	.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 	        	
 	        	// Admin & HR: POST, DELETE, PATCH
@@ -49,7 +66,7 @@ public class SecurityConfig {
 	        	.requestMatchers(HttpMethod.PATCH, "/api/employee/**").hasAnyRole("ADMIN", "HR")
 	        	
 	        	// Admin, HR & User: GET
-	        	.requestMatchers(HttpMethod.GET, "/api/getEmployee", "/api/getEmployee/**", "/api/employee/**").hasAnyRole("ADMIN", "HR", "USER")
+	        	.requestMatchers(HttpMethod.GET, "/api/getEmployee", "/api/getEmployee/**", "/api/employee/**", "/api/employees", "/api/employees/**").hasAnyRole("ADMIN", "HR", "USER")
 	        	
 	        	.anyRequest().authenticated()
 	        )
@@ -61,13 +78,20 @@ public class SecurityConfig {
 	        return http.build();
 	    }
 
+	  /** Prometheus scrapes carry no JWT; they are trusted by source address instead. */
+	  private AuthorizationManager<RequestAuthorizationContext> fromScrapeNetwork() {
+	      List<IpAddressMatcher> networks = scrapeNetworks.stream().map(IpAddressMatcher::new).toList();
+	      return (authentication, context) -> new AuthorizationDecision(
+	              networks.stream().anyMatch(n -> n.matches(context.getRequest().getRemoteAddr())));
+	  }
+
 	  @Bean
 	  public CorsConfigurationSource corsConfigurationSource() {
 	      CorsConfiguration configuration = new CorsConfiguration();
 	      configuration.setAllowedOrigins(List.of("http://localhost:5173", "http://localhost:5174", "http://127.0.0.1:5173", "http://127.0.0.1:5174"));
 	      configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
 	      configuration.setAllowedHeaders(List.of("*"));
-	      configuration.setExposedHeaders(List.of("Authorization"));
+	      configuration.setExposedHeaders(List.of("Authorization", "ETag"));
 	      configuration.setAllowCredentials(true);
 	      UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 	      source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,108 @@
+package com.demo.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts SQL round trips at the JDBC level, so Hibernate, JdbcTemplate and raw
+ * JDBC are all seen: every execute call on a statement counts once, a batch
+ * included. Keeps a process-wide total and, between {@link #begin()} and
+ * {@link #end()}, a count for the current thread so statements can be
+ * attributed to the HTTP request.
+ */
+@Component
+public class SqlStatementCounter {
+
+	private final ThreadLocal<Frame> current = new ThreadLocal<>();
+	private final LongAdder total = new LongAdder();
+
+	private static final class Frame {
+		long count;
+		int depth;
+	}
+
+	/** The data source with its connections' statements counted. */
+	public DataSource wrap(DataSource target) {
+		return new DelegatingDataSource(target) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				return counting(super.getConnection());
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) throws SQLException {
+				return counting(super.getConnection(username, password));
+			}
+		};
+	}
+
+	private Connection counting(Connection connection) {
+		return proxy(Connection.class, connection, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+				return proxy(method.getReturnType(), statement, (p, m, a) -> {
+					if (m.getName().startsWith("execute")) executed();
+					return invoke(statement, m, a);
+				});
+			}
+			return result;
+		});
+	}
+
+	private void executed() {
+		total.increment();
+		Frame frame = current.get();
+		if (frame != null) frame.count++;
+	}
+
+	/** Starts counting on this thread; nested calls share the outermost count. */
+	public void begin() {
+		Frame frame = current.get();
+		if (frame == null) {
+			frame = new Frame();
+			current.set(frame);
+		}
+		frame.depth++;
+	}
+
+	/** Statements seen on this thread since the outermost {@link #begin()}. */
+	public long end() {
+		Frame frame = current.get();
+		if (frame == null) return 0;
+		if (--frame.depth == 0) current.remove();
+		return frame.count;
+	}
+
+	/** Statements seen on this thread so far, without stopping the count. */
+	public long currentCount() {
+		Frame frame = current.get();
+		return frame != null ? frame.count : 0;
+	}
+
+	public long total() {
+		return total.sum();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<?> type, Object target, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[] {type}, handler);
+	}
+
+	private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
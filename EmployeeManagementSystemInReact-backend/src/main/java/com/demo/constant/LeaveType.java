@@ -0,0 +1,44 @@
+package com.demo.constant;
+
+import java.util.List;
+
+/**
+ * Ledger leave types. Requests keep the label the client sent ("Annual",
+ * "Sick", "Personal", "Bereavement"); each label counts against one of these.
+ */
+public enum LeaveType {
+    SICK(8, "Sick"),
+    CASUAL(8, "Personal", "Bereavement"),
+    VACATION(8, "Annual");
+
+    private final int annualDays;
+    private final List<String> labels;
+
+    LeaveType(int annualDays, String... labels) {
+        this.annualDays = annualDays;
+        this.labels = List.of(labels);
+    }
+
+    public int getAnnualDays() {
+        return annualDays;
+    }
+
+    public static int totalAnnualDays() {
+        int total = 0;
+        for (LeaveType t : values()) total += t.annualDays;
+        return total;
+    }
+
+    /** Matching type for a stored value or client label, ignoring case; null when it is neither. */
+    public static LeaveType parse(String type) {
+        if (type == null) return null;
+        String value = type.trim();
+        for (LeaveType t : values()) {
+            if (t.name().equalsIgnoreCase(value)) return t;
+            for (String label : t.labels) {
+                if (label.equalsIgnoreCase(value)) return t;
+            }
+        }
+        return null;
+    }
+}
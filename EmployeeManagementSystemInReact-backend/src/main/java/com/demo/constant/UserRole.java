@@ -3,5 +3,24 @@ package com.demo.constant;
 public enum UserRole {
     ROLE_ADMIN,
     ROLE_HR,
-    ROLE_USER
+    ROLE_USER;
+
+    /** Upper-cases a stored role and adds the ROLE_ prefix; blank roles become ROLE_USER. */
+    public static String normalize(String role) {
+        if (role == null || role.isEmpty()) {
+            return ROLE_USER.name();
+        }
+        role = role.trim().toUpperCase();
+        return role.startsWith("ROLE_") ? role : "ROLE_" + role;
+    }
+
+    /** The role named with or without the ROLE_ prefix, ignoring case; null for anything else. */
+    public static UserRole parse(String role) {
+        if (role == null || role.isBlank()) return null;
+        try {
+            return valueOf(normalize(role));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
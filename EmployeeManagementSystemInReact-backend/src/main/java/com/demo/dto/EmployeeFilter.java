@@ -0,0 +1,4 @@
+package com.demo.dto;
+
+public record EmployeeFilter(String status, String department, String workModel, String employmentType) {
+}
@@ -0,0 +1,4 @@
+package com.demo.dto;
+
+public record FacetCount(String value, long count) {
+}
@@ -0,0 +1,4 @@
+package com.demo.dto;
+
+/** One item of a bulk leave status update. {@code version} is optional; when given it must match. */
+public record LeaveStatusChange(Long id, String status, Long version) {}
@@ -0,0 +1,4 @@
+package com.demo.dto;
+
+/** Outcome of one bulk status item: UPDATED, UNCHANGED, CONFLICT, NOT_FOUND or INVALID. */
+public record LeaveStatusResult(Long id, String outcome, String status, Long version, String message) {}
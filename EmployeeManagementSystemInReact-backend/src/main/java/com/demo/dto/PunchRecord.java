@@ -0,0 +1,6 @@
+package com.demo.dto;
+
+import java.time.LocalDateTime;
+
+/** One badge-reader punch. {@code employeeId} must be an employee id; {@code type} is IN or OUT. */
+public record PunchRecord(Long employeeId, String type, LocalDateTime timestamp, String deviceId) {}
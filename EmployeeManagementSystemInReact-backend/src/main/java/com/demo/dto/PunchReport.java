@@ -0,0 +1,29 @@
+package com.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PunchReport {
+
+    public record PunchError(int index, String message) {}
+
+    private int received;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int rejected;
+    private List<PunchError> errors = new ArrayList<>();
+
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+    public int getInserted() { return inserted; }
+    public void setInserted(int inserted) { this.inserted = inserted; }
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+    public int getUnchanged() { return unchanged; }
+    public void setUnchanged(int unchanged) { this.unchanged = unchanged; }
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    public List<PunchError> getErrors() { return errors; }
+    public void setErrors(List<PunchError> errors) { this.errors = errors; }
+}
@@ -17,6 +17,15 @@ public class AttendanceController {
     @Autowired
     private AttendanceService attendanceService;
 
+    @Autowired
+    private com.demo.employeeService.PunchIngestionService punchService;
+
+    @Autowired
+    private com.demo.employeeService.AttendanceRollupService rollupService;
+
+    @Autowired
+    private com.demo.employeeService.IdentityResolver identity;
+
     @PostMapping("/check-in/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
     public ResponseEntity<com.demo.dto.ApiResponse<?>> checkIn(@PathVariable Long id) {
@@ -48,4 +57,30 @@ public class AttendanceController {
     public ResponseEntity<com.demo.dto.ApiResponse<List<Attendance>>> getAllAttendance(@RequestParam String date) {
         return ResponseEntity.ok(com.demo.dto.ApiResponse.success(attendanceService.getAllAttendanceByDate(date), "Global attendance retrieved"));
     }
+
+    @PostMapping("/punches")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<com.demo.dto.ApiResponse<?>> ingestPunches(@RequestBody List<com.demo.dto.PunchRecord> punches) {
+        try {
+            return ResponseEntity.ok(com.demo.dto.ApiResponse.success(punchService.ingest(punches), "Punches ingested"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "ATTENDANCE_ERROR"));
+        }
+    }
+
+    @GetMapping("/rollups/employee/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+    public ResponseEntity<com.demo.dto.ApiResponse<?>> getMonthlyRollups(@PathVariable Long id, @RequestParam(required = false) Integer year) {
+        Long employeeId = identity.resolveId(id);
+        if (employeeId == null) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error("Identity not found for ID: " + id, "ATTENDANCE_ERROR"));
+        }
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(rollupService.months(employeeId, year), "Monthly attendance retrieved"));
+    }
+
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<com.demo.dto.ApiResponse<Integer>> rebuildRollups() {
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(rollupService.rebuild(), "Attendance rollups rebuilt"));
+    }
 }
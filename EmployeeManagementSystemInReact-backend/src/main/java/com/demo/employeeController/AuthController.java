@@ -1,10 +1,16 @@
 package com.demo.employeeController;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.demo.dto.LoginRequest;
@@ -16,6 +22,8 @@ import com.demo.employeeRepository.UserRepository;
 @RequestMapping("/api/auth")
 public class AuthController {
 
+	private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
 	@Autowired
 	private AuthService auth;
 
@@ -24,23 +32,45 @@ public class AuthController {
 	
 	@PostMapping("/signup")
 	public ResponseEntity<com.demo.dto.ApiResponse<String>> register (@RequestBody User user) {
-		System.out.println("Controller: Received signup request for email: " + user.getEmail());
+		log.debug("Controller: Received signup request for email: {}", user.getEmail());
 		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(auth.register(user), "Registration successful"));
 	}
 	
 	@PostMapping("/login")
 	public ResponseEntity<com.demo.dto.ApiResponse<?>> login(@RequestBody LoginRequest req){
-		System.out.println("Controller: Received login request for email: " + req.getEmail());
+		log.debug("Controller: Received login request for email: {}", req.getEmail());
 		String token = auth.login(req.getEmail(),req.getPassword());
 	   
 		if(token == null) 
 			return ResponseEntity.status(401).body(com.demo.dto.ApiResponse.error("Invalid Credentials", "AUTH_ERROR"));
 		
 		User user = userRepo.findByEmail(req.getEmail());
-		System.out.println("Controller: Login successful for " + req.getEmail() + " with role: " + user.getRole());
+		log.debug("Controller: Login successful for {} with role: {}", req.getEmail(), user.getRole());
 		
 		com.demo.dto.LoginResponse response = new com.demo.dto.LoginResponse(user.getId(), token, req.getEmail(), user.getUsername(), user.getRole());
 		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(response, "Login successful"));
 	}
 
+	@PostMapping("/logout")
+	public ResponseEntity<com.demo.dto.ApiResponse<String>> logout() {
+		org.springframework.security.core.Authentication authentication = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() || authentication instanceof org.springframework.security.authentication.AnonymousAuthenticationToken)
+			return ResponseEntity.status(401).body(com.demo.dto.ApiResponse.error("Not logged in", "AUTH_ERROR"));
+
+		auth.logout(authentication.getName());
+		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(null, "Logged out from all sessions"));
+	}
+
+	@PatchMapping("/users/{id}/role")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<com.demo.dto.ApiResponse<String>> changeRole(@PathVariable Long id, @RequestParam String role) {
+		User user;
+		try {
+			user = auth.changeRole(id, role);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "INVALID_ROLE"));
+		}
+		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(user.getRole(), "Role updated; existing sessions were revoked"));
+	}
+
 }
@@ -1,11 +1,14 @@
 package com.demo.employeeController;
 
+import com.demo.employeeService.CollectionVersions;
 import com.demo.employeeService.DepartmentService;
 import com.demo.entity.Department;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,6 +20,9 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
 
+    @Autowired
+    private CollectionVersions versions;
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<com.demo.dto.ApiResponse<Department>> createDepartment(@RequestBody Department department) {
@@ -25,16 +31,22 @@ public class DepartmentController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
-    public ResponseEntity<com.demo.dto.ApiResponse<List<Department>>> getAllDepartments() {
-        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(departmentService.getAllDepartments(), "Departments retrieved successfully"));
+    public ResponseEntity<com.demo.dto.ApiResponse<List<Department>>> getAllDepartments(WebRequest request) {
+        String etag = versions.etag(request, CollectionVersions.DEPARTMENTS);
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(com.demo.dto.ApiResponse.success(departmentService.getAllDepartments(), "Departments retrieved successfully"));
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
-    public ResponseEntity<com.demo.dto.ApiResponse<Department>> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<com.demo.dto.ApiResponse<Department>> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        String etag = versions.etag(request, CollectionVersions.DEPARTMENTS, id);
+        if (request.checkNotModified(etag)) return null;
         Department dept = departmentService.getDepartmentById(id);
         if (dept == null) return ResponseEntity.status(404).body(com.demo.dto.ApiResponse.error("Department not found", "NOT_FOUND"));
-        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(dept, "Department retrieved successfully"));
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(com.demo.dto.ApiResponse.success(dept, "Department retrieved successfully"));
     }
 
     @PatchMapping("/{id}")
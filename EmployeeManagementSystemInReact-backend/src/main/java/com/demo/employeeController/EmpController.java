@@ -2,6 +2,8 @@ package com.demo.employeeController;
 
 import java.util.List;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.demo.employeeService.EmployeeService;
@@ -25,8 +28,13 @@ import org.springframework.security.access.prepost.PreAuthorize;
 @RequestMapping("/api")
 public class EmpController {
 
+	private static final Logger log = LoggerFactory.getLogger(EmpController.class);
+
 	@Autowired
 	EmployeeService serv;
+
+	@Autowired
+	private com.demo.employeeService.CollectionVersions versions;
 	
 	
 	
@@ -36,9 +44,22 @@ public class EmpController {
         return new ResponseEntity<>(com.demo.dto.ApiResponse.success(savedEmployee, "Employee registered successfully"), HttpStatus.CREATED);
     }
 	
+	/** Unpaginated legacy listing; new clients should page through GET /api/employees. */
 	@GetMapping("/getEmployee")
-	public ResponseEntity<com.demo.dto.ApiResponse<List<Employee>>> getAllEmployees(){
-		 return ResponseEntity.ok(com.demo.dto.ApiResponse.success(serv.getAllEmployee(), "Employees retrieved successfully"));
+	public ResponseEntity<?> getAllEmployees(@RequestParam(required = false) String fields,
+			@RequestParam(required = false) String view, org.springframework.web.context.request.WebRequest request){
+		List<String> selected;
+		try {
+			selected = com.demo.util.EmployeeFields.resolve(fields, view);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "INVALID_FIELDS"));
+		}
+
+		String etag = versions.etag(request, com.demo.employeeService.CollectionVersions.EMPLOYEES, selected);
+		if (request.checkNotModified(etag)) return null;
+		List<?> employees = selected == null ? serv.getAllEmployee() : serv.getAllEmployee(selected);
+		return ResponseEntity.ok().eTag(etag).cacheControl(org.springframework.http.CacheControl.noCache())
+				.body(com.demo.dto.ApiResponse.success(employees, "Employees retrieved successfully"));
 	}
 	
 	@DeleteMapping("/employee/{id}")
@@ -48,8 +69,15 @@ public class EmpController {
 	}
 	
 	@GetMapping("/employee/{id}")
-	public ResponseEntity<com.demo.dto.ApiResponse<Employee>> getEmployee(@PathVariable long id){
-		Employee emp=serv.getEmployee(id);
+	public ResponseEntity<?> getEmployee(@PathVariable long id, @RequestParam(required = false) String fields,
+			@RequestParam(required = false) String view){
+		List<String> selected;
+		try {
+			selected = com.demo.util.EmployeeFields.resolve(fields, view);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "INVALID_FIELDS"));
+		}
+		Object emp = selected == null ? serv.getEmployee(id) : serv.getEmployee(id, selected);
 		if(emp==null) return ResponseEntity.status(HttpStatus.NOT_FOUND).body(com.demo.dto.ApiResponse.error("Employee not found", "NOT_FOUND"));
 		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(emp, "Employee retrieved successfully"));	
 	}
@@ -62,13 +90,61 @@ public class EmpController {
 	}
 
 	@Autowired
-	private com.demo.employeeRepository.LeaveRepository leaveRepo;
+	private com.demo.employeeService.DashboardStatsStore statsStore;
+
+	@Autowired
+	private com.demo.employeeService.CurrentEmployeeService currentEmployee;
+
+	@Autowired
+	private com.demo.employeeService.AttendanceRollupService rollupService;
 
 	@Autowired
-	private com.demo.employeeRepository.AttendanceRepository attendanceRepo;
+	private com.demo.employeeService.ApprovedLeaveIndex leaveIndex;
 
 	@Autowired
-	private com.demo.employeeRepository.UserRepository userRepo;
+	private com.demo.employeeService.LeaveBalanceService leaveBalances;
+
+	@Autowired
+	private com.demo.employeeService.ActivityFeed activityFeed;
+
+	@Autowired
+	private com.demo.employeeService.DashboardEventHub dashboardEvents;
+
+	@Autowired
+	private com.demo.employeeService.StreamTicketService streamTickets;
+
+	@GetMapping("/me")
+	@PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+	public ResponseEntity<com.demo.dto.ApiResponse<Employee>> getCurrentEmployee() {
+		Employee emp = currentEmployee.currentEmployee();
+		if(emp==null) return ResponseEntity.status(HttpStatus.NOT_FOUND).body(com.demo.dto.ApiResponse.error("No employee profile for the current user", "NOT_FOUND"));
+		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(emp, "Employee retrieved successfully"));
+	}
+
+	/**
+	 * Single-use ticket for opening the dashboard stream, which EventSource
+	 * cannot authenticate with a header: GET /api/dashboard/stream?ticket=...
+	 */
+	@PostMapping("/dashboard/stream/ticket")
+	@PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+	public ResponseEntity<com.demo.dto.ApiResponse<String>> streamTicket() {
+		org.springframework.security.core.Authentication auth = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
+		List<String> authorities = auth.getAuthorities().stream().map(a -> a.getAuthority()).toList();
+		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(streamTickets.issue(auth.getName(), authorities), "Stream ticket issued"));
+	}
+
+	/**
+	 * Live dashboard: an initial "stats" event, then "stats" and "activity" events
+	 * as changes commit. Opened with a ticket from POST /api/dashboard/stream/ticket
+	 * or an Authorization header.
+	 */
+	@GetMapping(value = "/dashboard/stream", produces = org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+	public org.springframework.web.servlet.mvc.method.annotation.SseEmitter streamDashboard() {
+		boolean isAdmin = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+				.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_HR"));
+		return dashboardEvents.subscribe(isAdmin, isAdmin ? null : currentEmployee.currentEmployeeId());
+	}
 
 	@GetMapping("/dashboard/stats")
 	@PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
@@ -77,113 +153,58 @@ public class EmpController {
 		List<java.util.Map<String, String>> activities = new java.util.ArrayList<>();
 		
 		String email = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getName();
-		System.out.println("StatsRequest: User " + email + " requesting stats");
-		
-		Employee employee = serv.getAllEmployee().stream()
-				.filter(e -> e.getEmail().equals(email))
-				.findFirst().orElse(null);
+		log.debug("StatsRequest: User {} requesting stats", email);
 		
-		if (employee == null) {
-			System.out.println("StatsRequest: No employee record found for " + email);
-		} else {
-			System.out.println("StatsRequest: Found employee ID " + employee.getId() + " for " + email);
-		}
-
 		boolean isAdmin = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
 				.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_HR"));
-		System.out.println("StatsRequest: User admin status: " + isAdmin);
+		log.debug("StatsRequest: User admin status: {}", isAdmin);
 
 		if (isAdmin) {
-			List<Employee> employees = serv.getAllEmployee();
-			long total = employees.size();
-			long active = employees.stream()
-					.filter(e -> "ACTIVE".equalsIgnoreCase(e.getStatus()))
-					.count();
-			long pendingLeaves = leaveRepo.findByStatus("PENDING").size();
-			List<com.demo.entity.LeaveRequest> onLeaveToday = leaveRepo.findApprovedLeavesOnDate(java.time.LocalDate.now());
-
-			stats.put("totalEmployees", total);
+			com.demo.employeeService.DashboardStatsStore.Snapshot snapshot = statsStore.snapshot();
+			long active = snapshot.activeEmployees();
+			List<com.demo.employeeService.ApprovedLeaveIndex.Absence> onLeaveToday = leaveIndex.outOn(java.time.LocalDate.now(), null);
+
+			stats.put("totalEmployees", snapshot.totalEmployees());
 			stats.put("activeEmployees", active);
-			stats.put("pendingLeaves", pendingLeaves);
-			stats.put("onLeaveToday", onLeaveToday.size());
+			stats.put("pendingLeaves", snapshot.pendingLeaves());
+			stats.put("onLeaveToday", snapshot.onLeaveToday());
 			stats.put("onLeaveEmployees", onLeaveToday.stream()
 					.map(l -> {
 						java.util.Map<String, Object> empMap = new java.util.HashMap<>();
-						empMap.put("id", l.getEmployee().getId());
-						empMap.put("name", l.getEmployee().getName());
+						empMap.put("id", l.employeeId());
+						empMap.put("name", l.name());
 						return empMap;
 					})
 					.collect(java.util.stream.Collectors.toList()));
 			
 			// REAL-TIME ATTENDANCE RATE: (Check-ins today / Active Employees)
-			long checkedInToday = attendanceRepo.findByDate(java.time.LocalDate.now()).size();
-			String rate = active > 0 ? ((checkedInToday * 100) / active) + "%" : "0%";
-			stats.put("attendanceRate", rate);
+			stats.put("attendanceRate", snapshot.attendanceRate());
 
 			// Global Activities (Admin View)
-			employees.stream()
-				.sorted((e1, e2) -> e2.getJoiningDate().compareTo(e1.getJoiningDate()))
-				.limit(3)
-				.forEach(e -> {
-					java.util.Map<String, String> act = new java.util.HashMap<>();
-					act.put("text", "New hire: " + e.getName() + " joined " + e.getDepartment());
-					act.put("time", "Recent");
-					act.put("type", "HIRE");
-					activities.add(act);
-				});
-
-			leaveRepo.findAll().stream()
-				.sorted((l1, l2) -> l2.getId().compareTo(l1.getId()))
-				.limit(3)
-				.forEach(l -> {
-					java.util.Map<String, String> act = new java.util.HashMap<>();
-					act.put("text", "Leave " + l.getStatus() + " for " + l.getEmployee().getName());
-					act.put("time", l.getStartDate().toString());
-					act.put("type", "LEAVE");
-					activities.add(act);
-				});
+			activityFeed.recent(6).forEach(e -> activities.add(activity(e)));
 		} else {
+			Employee employee = currentEmployee.currentEmployeeRef();
+			
+			if (employee == null) {
+				log.debug("StatsRequest: No employee record found for {}", email);
+			} else {
+				log.debug("StatsRequest: Found employee ID {} for {}", employee.getId(), email);
+			}
+
 			if (employee != null) {
-				List<com.demo.entity.Attendance> myAttendance = attendanceRepo.findByEmployee(employee);
-				long presentDays = myAttendance.size();
-				long pendingLeaves = leaveRepo.findByEmployee(employee).stream()
-						.filter(l -> "PENDING".equalsIgnoreCase(l.getStatus()))
-						.count();
+				// Totals come from the monthly rollups, not the employee's whole attendance history.
+				com.demo.employeeService.AttendanceRollupService.Summary attendance = rollupService.summary(employee.getId());
+				long presentDays = attendance.days();
 				
 				stats.put("presentDays", presentDays);
-				stats.put("leavesRemaining", 24 - leaveRepo.findByEmployee(employee).stream()
-						.filter(l -> "APPROVED".equalsIgnoreCase(l.getStatus())).count());
+				stats.put("leavesRemaining", Math.round(leaveBalances.remaining(employee.getId(), java.time.LocalDate.now().getYear())));
 				stats.put("upcomingHolidays", 2);
 				
 				// DYNAMIC PERFORMANCE SCORE: Based on average working hours
-				double avgHours = myAttendance.stream()
-						.mapToDouble(a -> a.getWorkingHours() != null ? a.getWorkingHours() : 0.0)
-						.average().orElse(0.0);
-				String score = avgHours >= 8.5 ? "A+" : avgHours >= 7.5 ? "A" : avgHours >= 6.0 ? "B" : "C";
-				stats.put("performanceScore", score);
+				stats.put("performanceScore", attendance.performanceScore());
 
 				// Personal Activities
-				myAttendance.stream()
-					.sorted((a1, a2) -> a2.getDate().compareTo(a1.getDate()))
-					.limit(3)
-					.forEach(a -> {
-						java.util.Map<String, String> act = new java.util.HashMap<>();
-						act.put("text", "Checked in at " + a.getCheckIn());
-						act.put("time", a.getDate().toString());
-						act.put("type", "CLOCK");
-						activities.add(act);
-					});
-				
-				leaveRepo.findByEmployee(employee).stream()
-					.sorted((l1, l2) -> l2.getStartDate().compareTo(l1.getStartDate()))
-					.limit(2)
-					.forEach(l -> {
-						java.util.Map<String, String> act = new java.util.HashMap<>();
-						act.put("text", l.getType() + " leave request is " + l.getStatus());
-						act.put("time", "Update");
-						act.put("type", "LEAVE");
-						activities.add(act);
-					});
+				activityFeed.recentFor(employee.getId(), 5).forEach(e -> activities.add(activity(e)));
 			} else {
 				stats.put("presentDays", 0);
 				stats.put("leavesRemaining", 0);
@@ -195,4 +216,12 @@ public class EmpController {
 		stats.put("recentActivities", activities);
 		return ResponseEntity.ok(com.demo.dto.ApiResponse.success(stats, "Stats retrieved successfully"));
 	}
+
+	private static java.util.Map<String, String> activity(com.demo.entity.ActivityEvent e) {
+		java.util.Map<String, String> act = new java.util.HashMap<>();
+		act.put("text", e.getText());
+		act.put("time", e.getTimeLabel());
+		act.put("type", e.getType());
+		return act;
+	}
 }
@@ -0,0 +1,155 @@
+package com.demo.employeeController;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.demo.dto.CursorPage;
+import com.demo.dto.EmployeeFilter;
+import com.demo.dto.ImportReport;
+import com.demo.employeeService.CollectionVersions;
+import com.demo.employeeService.EmployeeExportService;
+import com.demo.employeeService.EmployeeFacets;
+import com.demo.employeeService.EmployeeImportService;
+import com.demo.employeeService.EmployeeSearchIndex;
+import com.demo.employeeService.EmployeeService;
+import com.demo.util.EmployeeFields;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/api/employees")
+public class EmployeeDirectoryController {
+
+    @Autowired
+    private EmployeeService serv;
+
+    @Autowired
+    private EmployeeExportService exportService;
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private CollectionVersions versions;
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    @Autowired
+    private EmployeeFacets facets;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+    public ResponseEntity<?> listEmployees(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String workModel,
+            @RequestParam(required = false) String employmentType,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String view,
+            WebRequest request) {
+        java.util.List<String> selected;
+        try {
+            selected = EmployeeFields.resolve(fields, view);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "INVALID_FIELDS"));
+        }
+
+        String etag = versions.etag(request, CollectionVersions.EMPLOYEES, after, EmployeeService.clampPageSize(size), status, department, workModel, employmentType, selected);
+        if (request.checkNotModified(etag)) return null;
+        EmployeeFilter filter = new EmployeeFilter(status, department, workModel, employmentType);
+        CursorPage<?> page = selected == null ? serv.getEmployeePage(after, size, filter) : serv.getEmployeePage(after, size, filter, selected);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(com.demo.dto.ApiResponse.success(page, "Employees retrieved successfully"));
+    }
+
+    /** Ranked matches over name, email, employee id, department, designation and city. */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+    public ResponseEntity<?> searchEmployees(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error("q must not be blank", "INVALID_QUERY"));
+        int n = limit == null || limit <= 0 ? 20 : Math.min(limit, 100);
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(searchIndex.search(q, n), "Search completed"));
+    }
+
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+    public ResponseEntity<?> autocomplete(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) return ResponseEntity.ok(com.demo.dto.ApiResponse.success(java.util.List.of(), "No suggestions"));
+        int n = limit == null || limit <= 0 ? 8 : Math.min(limit, 20);
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(searchIndex.suggest(q, n), "Suggestions retrieved"));
+    }
+
+    /** Headcounts for charts; each filter applies to every facet but its own. */
+    @GetMapping("/facets")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<?> employeeFacets(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String workModel,
+            @RequestParam(required = false) String employmentType,
+            @RequestParam(required = false) String gender,
+            @RequestParam(required = false) String city,
+            WebRequest request) {
+        String etag = versions.etag(request, CollectionVersions.EMPLOYEES, "facets", department, status, workModel, employmentType, gender, city);
+        if (request.checkNotModified(etag)) return null;
+        java.util.Map<String, String> filters = new java.util.HashMap<>();
+        filters.put("department", department);
+        filters.put("status", status);
+        filters.put("workModel", workModel);
+        filters.put("employmentType", employmentType);
+        filters.put("gender", gender);
+        filters.put("city", city);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(com.demo.dto.ApiResponse.success(facets.count(filters), "Facets retrieved successfully"));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<?> exportEmployees(@RequestParam(required = false) String format) {
+        EmployeeExportService.Format fmt;
+        try {
+            fmt = EmployeeExportService.parseFormat(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "EXPORT_ERROR"));
+        }
+
+        StreamingResponseBody body = out -> exportService.export(fmt, out);
+        boolean csv = fmt == EmployeeExportService.Format.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<com.demo.dto.ApiResponse<ImportReport>> importEmployees(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws java.io.IOException {
+        String fmtName = format;
+        if (fmtName == null && file.getOriginalFilename() != null && file.getOriginalFilename().toLowerCase().endsWith(".csv")) {
+            fmtName = "csv";
+        }
+
+        EmployeeExportService.Format fmt;
+        try {
+            fmt = EmployeeExportService.parseFormat(fmtName);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "IMPORT_ERROR"));
+        }
+
+        ImportReport report = importService.importEmployees(fmt, file.getInputStream());
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(report,
+                "Imported " + report.getImported() + " of " + report.getTotalRows() + " rows"));
+    }
+}
@@ -17,16 +17,46 @@ public class LeaveController {
     @Autowired
     private LeaveService leaveService;
 
+    @org.springframework.beans.factory.annotation.Value("${app.leaves.bulk-max:1000}")
+    private int bulkMax;
+
+    @Autowired
+    private com.demo.employeeService.ApprovedLeaveIndex leaveIndex;
+
+    @Autowired
+    private com.demo.employeeService.LeaveBalanceService balanceService;
+
+    @Autowired
+    private com.demo.employeeService.IdentityResolver identity;
+
     @PostMapping("/apply/{employeeId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
     public ResponseEntity<com.demo.dto.ApiResponse<LeaveRequest>> applyLeave(@RequestBody LeaveRequest request, @PathVariable Long employeeId) {
-        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveService.applyLeave(request, employeeId), "Leave request submitted"));
+        try {
+            return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveService.applyLeave(request, employeeId), "Leave request submitted"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "LEAVE_ERROR"));
+        }
     }
 
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
-    public ResponseEntity<com.demo.dto.ApiResponse<LeaveRequest>> updateStatus(@PathVariable Long id, @RequestParam String status) {
-        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveService.updateLeaveStatus(id, status), "Leave status updated"));
+    public ResponseEntity<com.demo.dto.ApiResponse<LeaveRequest>> updateStatus(@PathVariable Long id, @RequestParam String status,
+            @RequestParam(required = false) Long version) {
+        try {
+            return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveService.updateLeaveStatus(id, status, version), "Leave status updated"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error(e.getMessage(), "LEAVE_ERROR"));
+        }
+    }
+
+    @PatchMapping("/status")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<com.demo.dto.ApiResponse<?>> updateStatuses(@RequestBody List<com.demo.dto.LeaveStatusChange> changes) {
+        if (changes.size() > bulkMax) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error("At most " + bulkMax + " items per request", "LEAVE_ERROR"));
+        }
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveService.updateLeaveStatuses(changes), "Leave statuses processed"));
     }
 
     @GetMapping("/employee/{id}")
@@ -47,4 +77,38 @@ public class LeaveController {
         java.time.LocalDate localDate = date != null ? java.time.LocalDate.parse(date) : java.time.LocalDate.now();
         return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveService.getApprovedLeavesOnDate(localDate), "Personnel on leave retrieved"));
     }
+
+    @GetMapping("/out")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<com.demo.dto.ApiResponse<?>> getOutBetween(@RequestParam(required = false) String from,
+            @RequestParam(required = false) String to, @RequestParam(required = false) String department) {
+        java.time.LocalDate start = from != null ? java.time.LocalDate.parse(from) : java.time.LocalDate.now();
+        java.time.LocalDate end = to != null ? java.time.LocalDate.parse(to) : start;
+        if (end.isBefore(start) || end.isAfter(start.plusDays(366))) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error("'to' must be within a year after 'from'", "LEAVE_ERROR"));
+        }
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(leaveIndex.outBetween(start, end, department), "Personnel on leave retrieved"));
+    }
+
+    @GetMapping("/balance/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR', 'USER')")
+    public ResponseEntity<com.demo.dto.ApiResponse<?>> getBalance(@PathVariable Long id, @RequestParam(required = false) Integer year) {
+        Long employeeId = identity.resolveId(id);
+        if (employeeId == null) {
+            return ResponseEntity.badRequest().body(com.demo.dto.ApiResponse.error("Identity not found for ID: " + id, "LEAVE_ERROR"));
+        }
+        int y = year != null ? year : java.time.LocalDate.now().getYear();
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(balanceService.balances(employeeId, y), "Leave balance retrieved"));
+    }
+
+    @PostMapping("/balances/accrue")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<com.demo.dto.ApiResponse<Long>> accrue(@RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "false") boolean rebuild) {
+        int y = year != null ? year : java.time.LocalDate.now().getYear();
+        long employees = balanceService.accrue(y);
+        // rebuild=true recomputes days used from approved leaves; run once when the ledger is first deployed.
+        if (rebuild) balanceService.rebuildUsed();
+        return ResponseEntity.ok(com.demo.dto.ApiResponse.success(employees, "Leave entitlements granted"));
+    }
 }
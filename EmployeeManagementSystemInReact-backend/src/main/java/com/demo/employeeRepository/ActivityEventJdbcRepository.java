@@ -0,0 +1,44 @@
+package com.demo.employeeRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Set-based writes to the activity_event table.
+ */
+@Repository
+public class ActivityEventJdbcRepository {
+
+    /**
+     * Past hires, every leave and each employee's last three check-ins, worded as the
+     * services word them and inserted oldest first so ids follow time. Inserts nothing
+     * once the table has any row.
+     */
+    private static final String BACKFILL_SQL = "INSERT INTO activity_event "
+            + "(employee_id, visible_to_all, type, text, time_label, created_at) "
+            + "SELECT employee_id, visible_to_all, type, text, time_label, happened FROM ("
+            + "SELECT id AS employee_id, TRUE AS visible_to_all, 'HIRE' AS type, "
+            + "CONCAT('New hire: ', COALESCE(name, ''), ' joined ', COALESCE(department, '')) AS text, "
+            + "'Recent' AS time_label, joining_date AS happened, 0 AS kind, id AS seq "
+            + "FROM employee WHERE joining_date IS NOT NULL "
+            + "UNION ALL SELECT l.employee_id, TRUE, 'LEAVE', "
+            + "CONCAT(COALESCE(l.type, ''), ' leave for ', COALESCE(e.name, ''), ' is ', COALESCE(l.status, '')), "
+            + "COALESCE(CAST(l.start_date AS CHAR(10)), ''), l.start_date, 1, l.id "
+            + "FROM leave_requests l JOIN employee e ON e.id = l.employee_id "
+            + "UNION ALL SELECT employee_id, FALSE, 'CLOCK', CONCAT('Checked in at ', CAST(check_in AS CHAR(8))), "
+            + "CAST(date AS CHAR(10)), date, 2, id FROM ("
+            + "SELECT id, employee_id, date, check_in, "
+            + "ROW_NUMBER() OVER (PARTITION BY employee_id ORDER BY date DESC, id DESC) AS n "
+            + "FROM attendance WHERE check_in IS NOT NULL) latest WHERE n <= 3"
+            + ") past WHERE NOT EXISTS (SELECT 1 FROM activity_event) "
+            + "ORDER BY happened, kind, seq";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    /** Fills an empty table from the existing hires, leaves and check-ins; returns the rows added. */
+    public int backfillIfEmpty() {
+        return jdbc.update(BACKFILL_SQL);
+    }
+}
@@ -0,0 +1,11 @@
+package com.demo.employeeRepository;
+
+import com.demo.entity.ActivityEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+    List<ActivityEvent> findByVisibleToAllTrueOrderByIdDesc(Limit limit);
+    List<ActivityEvent> findByEmployeeIdOrderByIdDesc(Long employeeId, Limit limit);
+}
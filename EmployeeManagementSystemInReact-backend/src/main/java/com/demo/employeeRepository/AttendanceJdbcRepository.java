@@ -0,0 +1,159 @@
+package com.demo.employeeRepository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+
+/**
+ * Plain JDBC writes for attendance. The unique (employee_id, date) constraint makes a
+ * second insert for the same day fail, which callers treat as "already checked in".
+ */
+@Repository
+public class AttendanceJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attendance (employee_id, date, check_in, check_out, working_hours) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE attendance SET check_in = ?, check_out = ?, working_hours = ? WHERE id = ?";
+
+    private static final String ROLLUP_UPSERT_SQL = "INSERT INTO attendance_monthly_rollup "
+            + "(employee_id, period_year, period_month, days, total_hours) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE days = days + VALUES(days), total_hours = total_hours + VALUES(total_hours)";
+
+    private static final String ROLLUP_REBUILD_SQL = "INSERT INTO attendance_monthly_rollup "
+            + "(employee_id, period_year, period_month, days, total_hours) "
+            + "SELECT employee_id, YEAR(date), MONTH(date), COUNT(*), COALESCE(SUM(working_hours), 0) "
+            + "FROM attendance GROUP BY employee_id, YEAR(date), MONTH(date)";
+
+    /** Change to one employee's totals for one month. */
+    public record RollupDelta(long employeeId, int year, int month, int days, double hours) {}
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    /** Inserts every row in one batch. Any conflict fails the batch; run it in a transaction. */
+    public void batchInsert(List<Attendance> rows) {
+        jdbc.batchUpdate(INSERT_SQL, rows, rows.size(), AttendanceJdbcRepository::bind);
+    }
+
+    /**
+     * Inserts one row and sets its generated id; throws DuplicateKeyException when the
+     * employee already has a row for the date.
+     */
+    public void insert(Attendance row) {
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            bind(ps, row);
+            return ps;
+        }, keys);
+        Number id = keys.getKey();
+        if (id != null) row.setId(id.longValue());
+    }
+
+    public void batchUpdate(List<Attendance> rows) {
+        jdbc.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, a) -> {
+            setTime(ps, 1, a.getCheckIn());
+            setTime(ps, 2, a.getCheckOut());
+            if (a.getWorkingHours() == null) ps.setNull(3, Types.DOUBLE);
+            else ps.setDouble(3, a.getWorkingHours());
+            ps.setLong(4, a.getId());
+        });
+    }
+
+    /**
+     * Rows for the given employees between two dates, inclusive. The employee on each
+     * row is an id-only stub, enough to key and write the row back.
+     */
+    public List<Attendance> findBetween(Collection<Long> employeeIds, LocalDate from, LocalDate to) {
+        if (employeeIds.isEmpty()) return List.of();
+        String in = employeeIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Object[] args = new Object[employeeIds.size() + 2];
+        args[0] = Date.valueOf(from);
+        args[1] = Date.valueOf(to);
+        int i = 2;
+        for (Long id : employeeIds) args[i++] = id;
+
+        return jdbc.query("SELECT id, employee_id, date, check_in, check_out, working_hours FROM attendance "
+                + "WHERE date BETWEEN ? AND ? AND employee_id IN (" + in + ")", (rs, n) -> {
+            Employee employee = new Employee();
+            employee.setId(rs.getLong(2));
+            Attendance a = new Attendance();
+            a.setId(rs.getLong(1));
+            a.setEmployee(employee);
+            a.setDate(rs.getDate(3).toLocalDate());
+            Time checkIn = rs.getTime(4);
+            Time checkOut = rs.getTime(5);
+            a.setCheckIn(checkIn != null ? checkIn.toLocalTime() : null);
+            a.setCheckOut(checkOut != null ? checkOut.toLocalTime() : null);
+            double hours = rs.getDouble(6);
+            a.setWorkingHours(rs.wasNull() ? null : hours);
+            return a;
+        }, args);
+    }
+
+    /** Ids of the rows for the given employees on one date, keyed by employee id. */
+    public Map<Long, Long> findIds(LocalDate date, Collection<Long> employeeIds) {
+        if (employeeIds.isEmpty()) return Map.of();
+        String in = employeeIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        Object[] args = new Object[employeeIds.size() + 1];
+        args[0] = Date.valueOf(date);
+        int i = 1;
+        for (Long id : employeeIds) args[i++] = id;
+
+        Map<Long, Long> ids = new HashMap<>();
+        jdbc.query("SELECT employee_id, id FROM attendance WHERE date = ? AND employee_id IN (" + in + ")",
+                rs -> { ids.put(rs.getLong(1), rs.getLong(2)); }, args);
+        return ids;
+    }
+
+    /** Adds each delta to its month row, creating the row on first use. */
+    public void addToRollups(List<RollupDelta> deltas) {
+        jdbc.batchUpdate(ROLLUP_UPSERT_SQL, deltas, deltas.size(), (ps, d) -> {
+            ps.setLong(1, d.employeeId());
+            ps.setInt(2, d.year());
+            ps.setInt(3, d.month());
+            ps.setInt(4, d.days());
+            ps.setDouble(5, d.hours());
+        });
+    }
+
+    /** Recomputes every rollup row from the attendance table; run it in a transaction. */
+    public int rebuildRollups() {
+        jdbc.update("DELETE FROM attendance_monthly_rollup");
+        return jdbc.update(ROLLUP_REBUILD_SQL);
+    }
+
+    private static void bind(PreparedStatement ps, Attendance a) throws SQLException {
+        ps.setLong(1, a.getEmployee().getId());
+        ps.setDate(2, Date.valueOf(a.getDate()));
+        setTime(ps, 3, a.getCheckIn());
+        setTime(ps, 4, a.getCheckOut());
+        if (a.getWorkingHours() == null) ps.setNull(5, Types.DOUBLE);
+        else ps.setDouble(5, a.getWorkingHours());
+    }
+
+    private static void setTime(PreparedStatement ps, int index, LocalTime value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.TIME);
+        else ps.setTime(index, Time.valueOf(value));
+    }
+}
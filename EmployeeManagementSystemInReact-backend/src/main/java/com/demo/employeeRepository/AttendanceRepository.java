@@ -2,12 +2,18 @@ package com.demo.employeeRepository;
 
 import com.demo.entity.Attendance;
 import com.demo.entity.Employee;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.time.LocalDate;
 import java.util.List;
 
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+    // Employee is an eager @ManyToOne; fetch it in the same query instead of one select per row.
+    @EntityGraph(attributePaths = "employee")
     List<Attendance> findByEmployee(Employee employee);
+    @EntityGraph(attributePaths = "employee")
     List<Attendance> findByDate(LocalDate date);
+    long countByDate(LocalDate date);
+    @EntityGraph(attributePaths = "employee")
     java.util.Optional<Attendance> findByEmployeeAndDate(Employee employee, LocalDate date);
 }
@@ -0,0 +1,19 @@
+package com.demo.employeeRepository;
+
+import com.demo.entity.AttendanceMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import java.util.List;
+
+public interface AttendanceRollupRepository extends JpaRepository<AttendanceMonthlyRollup, Long> {
+    List<AttendanceMonthlyRollup> findByEmployeeIdOrderByYearAscMonthAsc(long employeeId);
+    List<AttendanceMonthlyRollup> findByEmployeeIdAndYearOrderByMonthAsc(long employeeId, int year);
+
+    interface Totals {
+        Long getDays();
+        Double getTotalHours();
+    }
+
+    @Query("SELECT SUM(r.days) AS days, SUM(r.totalHours) AS totalHours FROM AttendanceMonthlyRollup r WHERE r.employeeId = :employeeId")
+    Totals totalsFor(long employeeId);
+}
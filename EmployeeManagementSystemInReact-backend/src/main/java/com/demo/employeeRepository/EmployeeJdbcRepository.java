@@ -0,0 +1,72 @@
+package com.demo.employeeRepository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.demo.entity.Employee;
+
+/**
+ * Plain JDBC writes for bulk paths. The id column stays database generated, and with
+ * rewriteBatchedStatements the driver sends each batch as a multi-row INSERT.
+ */
+@Repository
+public class EmployeeJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO employee (name, email, phone, department, designation, salary, "
+            + "joining_date, status, employee_id, employment_type, work_model, linkedin, twitter, instagram, "
+            + "transportation_allowance, meal_allowance, internet_allowance, health_insurance, life_insurance, "
+            + "training_program, fitness_membership, gender, dob, address, city, experience) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    public int[] batchInsert(List<Employee> employees) {
+        return jdbc.batchUpdate(INSERT_SQL, employees, employees.size(), (ps, e) -> {
+            int i = 1;
+            ps.setString(i++, e.getName());
+            ps.setString(i++, e.getEmail());
+            ps.setString(i++, e.getPhone());
+            ps.setString(i++, e.getDepartment());
+            ps.setString(i++, e.getDesignation());
+            setDouble(ps, i++, e.getSalary());
+            setDate(ps, i++, e.getJoiningDate());
+            ps.setString(i++, e.getStatus());
+            ps.setString(i++, e.getEmployeeId());
+            ps.setString(i++, e.getEmploymentType());
+            ps.setString(i++, e.getWorkModel());
+            ps.setString(i++, e.getLinkedin());
+            ps.setString(i++, e.getTwitter());
+            ps.setString(i++, e.getInstagram());
+            setDouble(ps, i++, e.getTransportationAllowance());
+            setDouble(ps, i++, e.getMealAllowance());
+            setDouble(ps, i++, e.getInternetAllowance());
+            setDouble(ps, i++, e.getHealthInsurance());
+            setDouble(ps, i++, e.getLifeInsurance());
+            setDouble(ps, i++, e.getTrainingProgram());
+            setDouble(ps, i++, e.getFitnessMembership());
+            ps.setString(i++, e.getGender());
+            setDate(ps, i++, e.getDob());
+            ps.setString(i++, e.getAddress());
+            ps.setString(i++, e.getCity());
+            ps.setString(i++, e.getExperience());
+        })[0];
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.DOUBLE);
+        else ps.setDouble(index, value);
+    }
+
+    private static void setDate(PreparedStatement ps, int index, java.time.LocalDate value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.DATE);
+        else ps.setDate(index, Date.valueOf(value));
+    }
+}
@@ -0,0 +1,79 @@
+package com.demo.employeeRepository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import com.demo.dto.FacetCount;
+import com.demo.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Employee reads that SELECT only the requested columns. Rows come back as
+ * ordered maps keyed by attribute name, so they serialise like the entity
+ * without its other fields. Attribute names must be validated by the caller.
+ */
+@Repository
+public class EmployeeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /** Rows matching {@code spec}, ordered by id, at most {@code limit} of them. */
+    public List<Map<String, Object>> findAll(List<String> fields, Specification<Employee> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(fields.stream().map(f -> root.get(f).alias(f)).collect(Collectors.toList()));
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) query.where(where);
+        query.orderBy(cb.asc(root.get("id")));
+
+        var typed = em.createQuery(query);
+        if (limit > 0) typed.setMaxResults(limit);
+        return typed.getResultList().stream().map(t -> toMap(fields, t)).collect(Collectors.toList());
+    }
+
+    public Map<String, Object> findById(List<String> fields, long id) {
+        List<Map<String, Object>> rows = findAll(fields, (root, query, cb) -> cb.equal(root.get("id"), id), 1);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * Employees matching {@code spec} per distinct value of {@code attribute},
+     * most common first; employees without a value count under null.
+     */
+    public List<FacetCount> countBy(String attribute, Specification<Employee> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        Expression<Long> count = cb.count(root);
+        query.multiselect(root.get(attribute), count);
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (where != null) query.where(where);
+        query.groupBy(root.get(attribute));
+        query.orderBy(cb.desc(count), cb.asc(root.get(attribute)));
+
+        return em.createQuery(query).getResultList().stream()
+                .map(t -> new FacetCount((String) t.get(0), t.get(1, Long.class)))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Object> toMap(List<String> fields, Tuple tuple) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String f : fields) row.put(f, tuple.get(f));
+        return row;
+    }
+}
@@ -1,9 +1,26 @@
 package com.demo.employeeRepository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import com.demo.entity.Employee;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
     java.util.Optional<Employee> findByEmail(String email);
+    long countByStatusIgnoreCase(String status);
+
+    @org.springframework.data.jpa.repository.Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    java.util.List<String> findExistingEmails(java.util.Collection<String> emails);
+
+    @org.springframework.data.jpa.repository.Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    java.util.Set<Long> findExistingIds(java.util.Collection<Long> ids);
+
+    // Forward-only cursor; must be consumed inside a read-only transaction and closed.
+    @org.springframework.data.jpa.repository.QueryHints({
+            @jakarta.persistence.QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @jakarta.persistence.QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_READ_ONLY, value = "true"),
+            @jakarta.persistence.QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @org.springframework.data.jpa.repository.Query("SELECT e FROM Employee e ORDER BY e.id")
+    java.util.stream.Stream<Employee> streamAllOrderById();
 }
@@ -0,0 +1,28 @@
+package com.demo.employeeRepository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.demo.dto.EmployeeFilter;
+import com.demo.entity.Employee;
+
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {}
+
+    public static Specification<Employee> idGreaterThan(Long afterId) {
+        return (root, query, cb) -> afterId == null ? null : cb.greaterThan(root.get("id"), afterId);
+    }
+
+    public static Specification<Employee> attributeEquals(String attribute, String value) {
+        return (root, query, cb) -> value == null || value.isBlank() ? null : cb.equal(root.get(attribute), value.trim());
+    }
+
+    /** Equality predicates for every filter that is set; unset filters add nothing to the WHERE clause. */
+    public static Specification<Employee> matching(EmployeeFilter filter) {
+        return Specification.allOf(
+                attributeEquals("status", filter.status()),
+                attributeEquals("department", filter.department()),
+                attributeEquals("workModel", filter.workModel()),
+                attributeEquals("employmentType", filter.employmentType()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.demo.employeeRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Set-based writes to the leave ledger. Each statement touches one row per
+ * (employee, year, type) through the unique key, creating it on first use.
+ */
+@Repository
+public class LeaveBalanceJdbcRepository {
+
+    private static final String ADD_USED_SQL = "INSERT INTO leave_balance (employee_id, balance_year, leave_type, entitled, used) "
+            + "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE used = used + VALUES(used)";
+
+    private static final String GRANT_SQL = "INSERT INTO leave_balance (employee_id, balance_year, leave_type, entitled, used) "
+            + "VALUES (?, ?, ?, ?, 0) ON DUPLICATE KEY UPDATE entitled = VALUES(entitled)";
+
+    /** Days taken (negative to give back) by one employee in one year and type. */
+    public record UsedDelta(long employeeId, int year, String type, double entitled, double days) {}
+
+    /** Entitlement for one employee, year and type. */
+    public record Grant(long employeeId, int year, String type, double entitled) {}
+
+    /** Dates and type of one APPROVED leave. */
+    public record ApprovedLeave(long employeeId, String type, LocalDate startDate, LocalDate endDate) {}
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    public void addUsed(List<UsedDelta> deltas) {
+        jdbc.batchUpdate(ADD_USED_SQL, deltas, deltas.size(), (ps, d) -> {
+            ps.setLong(1, d.employeeId());
+            ps.setInt(2, d.year());
+            ps.setString(3, d.type());
+            ps.setDouble(4, d.entitled());
+            ps.setDouble(5, d.days());
+        });
+    }
+
+    /** Sets the entitlement of each row, leaving days already used untouched. */
+    public void grant(List<Grant> grants) {
+        jdbc.batchUpdate(GRANT_SQL, grants, grants.size(), (ps, g) -> {
+            ps.setLong(1, g.employeeId());
+            ps.setInt(2, g.year());
+            ps.setString(3, g.type());
+            ps.setDouble(4, g.entitled());
+        });
+    }
+
+    /** Zeroes days used on every row, keeping entitlements; for rebuilding the ledger. */
+    public void resetUsed() {
+        jdbc.update("UPDATE leave_balance SET used = 0");
+    }
+
+    /**
+     * APPROVED leaves, locking every leave row until the transaction ends so no status
+     * change can commit while the ledger is rebuilt from them. All rows are locked, not
+     * only approved ones, because a PENDING row being approved must wait too.
+     */
+    public List<ApprovedLeave> lockApprovedLeaves() {
+        List<ApprovedLeave> approved = new ArrayList<>();
+        jdbc.query("SELECT employee_id, type, start_date, end_date, status FROM leave_requests FOR UPDATE", rs -> {
+            long employeeId = rs.getLong("employee_id");
+            if (!rs.wasNull() && "APPROVED".equals(rs.getString("status"))) {
+                approved.add(new ApprovedLeave(employeeId, rs.getString("type"),
+                        rs.getObject("start_date", LocalDate.class), rs.getObject("end_date", LocalDate.class)));
+            }
+        });
+        return approved;
+    }
+
+    /** Next chunk of employee ids in id order, for walking the workforce without loading rows. */
+    public List<Long> employeeIdsAfter(long afterId, int limit) {
+        return jdbc.queryForList("SELECT id FROM employee WHERE id > ? ORDER BY id LIMIT ?", Long.class, afterId, limit);
+    }
+}
@@ -0,0 +1,9 @@
+package com.demo.employeeRepository;
+
+import com.demo.entity.LeaveBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+    List<LeaveBalance> findByEmployeeIdAndYear(long employeeId, int year);
+}
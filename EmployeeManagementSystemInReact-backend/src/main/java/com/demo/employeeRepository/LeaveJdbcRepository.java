@@ -0,0 +1,33 @@
+package com.demo.employeeRepository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Set-based status writes for leave requests. Each row is only updated when its
+ * version still matches, so a zero update count means someone else changed it.
+ */
+@Repository
+public class LeaveJdbcRepository {
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE leave_requests SET status = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    public record StatusWrite(long id, String status, long expectedVersion) {}
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    /** Update count per write, in order: 1 when applied, 0 on a version conflict. */
+    public int[] updateStatuses(List<StatusWrite> writes) {
+        int[][] counts = jdbc.batchUpdate(UPDATE_STATUS_SQL, writes, writes.size(), (ps, w) -> {
+            ps.setString(1, w.status());
+            ps.setLong(2, w.id());
+            ps.setLong(3, w.expectedVersion());
+        });
+        return counts.length > 0 ? counts[0] : new int[0];
+    }
+}
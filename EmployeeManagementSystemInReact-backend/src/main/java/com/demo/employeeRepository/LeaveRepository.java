@@ -2,13 +2,26 @@ package com.demo.employeeRepository;
 
 import com.demo.entity.Employee;
 import com.demo.entity.LeaveRequest;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 
 public interface LeaveRepository extends JpaRepository<LeaveRequest, Long> {
+    // Employee is an eager @ManyToOne; fetch it in the same query instead of one select per row.
+    @EntityGraph(attributePaths = "employee")
     List<LeaveRequest> findByEmployee(Employee employee);
+    @EntityGraph(attributePaths = "employee")
     List<LeaveRequest> findByStatus(String status);
+    long countByStatus(String status);
 
-    @org.springframework.data.jpa.repository.Query("SELECT l FROM LeaveRequest l WHERE l.status = 'APPROVED' AND :date BETWEEN l.startDate AND l.endDate")
+    // Read-only: bulk status changes are written with JDBC, so these must never be flushed.
+    @EntityGraph(attributePaths = "employee")
+    @org.springframework.data.jpa.repository.QueryHints(@jakarta.persistence.QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<LeaveRequest> findByIdIn(java.util.Collection<Long> ids);
+
+    @org.springframework.data.jpa.repository.Query("SELECT l FROM LeaveRequest l JOIN FETCH l.employee WHERE l.status = 'APPROVED' AND :date BETWEEN l.startDate AND l.endDate")
     List<LeaveRequest> findApprovedLeavesOnDate(java.time.LocalDate date);
+
+    @org.springframework.data.jpa.repository.Query("SELECT COUNT(l) FROM LeaveRequest l WHERE l.status = 'APPROVED' AND :date BETWEEN l.startDate AND l.endDate")
+    long countApprovedLeavesOnDate(java.time.LocalDate date);
 }
@@ -1,9 +1,29 @@
 package com.demo.employeeRepository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.demo.entity.User;
 
 public interface UserRepository extends JpaRepository<User,Long> {
 	 User findByEmail(String email);
+
+	 interface EpochView {
+		 String getEmail();
+		 long getSecurityEpoch();
+	 }
+
+	 List<EpochView> findBySecurityEpochGreaterThan(long epoch);
+
+	 @Query("SELECT u.securityEpoch FROM User u WHERE u.email = :email")
+	 Long findSecurityEpochByEmail(String email);
+
+	 @Modifying
+	 @Transactional
+	 @Query("UPDATE User u SET u.securityEpoch = u.securityEpoch + 1 WHERE u.email = :email")
+	 int incrementSecurityEpoch(String email);
 }
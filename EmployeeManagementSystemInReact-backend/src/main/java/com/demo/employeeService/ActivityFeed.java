@@ -0,0 +1,141 @@
+package com.demo.employeeService;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.demo.employeeRepository.ActivityEventJdbcRepository;
+import com.demo.employeeRepository.ActivityEventRepository;
+import com.demo.entity.ActivityEvent;
+import com.demo.util.AfterCommit;
+import com.demo.util.LruCache;
+import com.demo.util.RingBuffer;
+import com.demo.util.SeedGate;
+
+/**
+ * Recent-activity feed. Services append events to the activity_event table in
+ * their own transaction; after commit the event is pushed into a ring buffer for
+ * the admin feed and one for the employee. Each buffer is filled from the table
+ * the first time it is read, so reads are a slice of memory afterwards. Events
+ * committing while a buffer loads are queued behind the load and added unless
+ * the load already read them. On startup an empty table is backfilled from the
+ * existing hires, leaves and check-ins, so the feeds are not blank after deploy.
+ */
+@Component
+public class ActivityFeed {
+
+	private static final Logger log = LoggerFactory.getLogger(ActivityFeed.class);
+
+	@Autowired
+	private ActivityEventRepository repo;
+
+	@Autowired
+	private ActivityEventJdbcRepository jdbcRepo;
+
+	@Value("${app.activity.backfill-on-startup:true}")
+	private boolean backfillOnStartup;
+
+	@Autowired
+	private DashboardEventHub events;
+
+	private final int globalSize;
+	private final int employeeSize;
+	private final LruCache<Long, Feed> byEmployee;
+	private final Feed global = new Feed();
+
+	/** One ring buffer and the gate that orders its load against appends. */
+	private static final class Feed {
+		final SeedGate gate = new SeedGate();
+		volatile RingBuffer<ActivityEvent> ring;
+	}
+
+	public ActivityFeed(@Value("${app.activity.global-size:50}") int globalSize,
+			@Value("${app.activity.employee-size:10}") int employeeSize,
+			@Value("${app.activity.cached-employees:10000}") int cachedEmployees) {
+		this.globalSize = globalSize;
+		this.employeeSize = employeeSize;
+		this.byEmployee = new LruCache<>(cachedEmployees);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onStartup() {
+		if (backfillOnStartup) backfill();
+	}
+
+	/** Fills an empty activity_event table from past activity; a no-op once it has rows. */
+	public int backfill() {
+		int rows = jdbcRepo.backfillIfEmpty();
+		if (rows > 0) {
+			// Feeds read before the backfill loaded an empty table.
+			global.gate.reset();
+			byEmployee.clear();
+			log.info("Backfilled {} activity events", rows);
+		}
+		return rows;
+	}
+
+	/** Event in the employee's feed and, when {@code visibleToAll}, the admin feed. */
+	public void append(Long employeeId, boolean visibleToAll, String type, String text, String timeLabel) {
+		ActivityEvent event = repo.save(new ActivityEvent(employeeId, visibleToAll, type, text, timeLabel));
+		AfterCommit.run(() -> {
+			if (visibleToAll) add(global, event);
+			if (employeeId != null) {
+				Feed mine = byEmployee.get(employeeId);
+				if (mine != null) add(mine, event);
+			}
+			events.activity(event);
+		});
+	}
+
+	/** Newest admin-feed events first. */
+	public List<ActivityEvent> recent(int limit) {
+		return read(global, limit, globalSize, () -> repo.findByVisibleToAllTrueOrderByIdDesc(Limit.of(globalSize)));
+	}
+
+	/** Newest events of one employee first. */
+	public List<ActivityEvent> recentFor(long employeeId, int limit) {
+		Feed mine = byEmployee.computeIfAbsent(employeeId, id -> new Feed());
+		return read(mine, limit, employeeSize, () -> repo.findByEmployeeIdOrderByIdDesc(employeeId, Limit.of(employeeSize)));
+	}
+
+	private static List<ActivityEvent> read(Feed feed, int limit, int capacity, Supplier<List<ActivityEvent>> newestFirst) {
+		if (!feed.gate.isReady()) {
+			synchronized (feed) {
+				if (!feed.gate.isReady()) {
+					long token = feed.gate.begin();
+					try {
+						List<ActivityEvent> rows = newestFirst.get();
+						feed.gate.complete(token, () -> {
+							RingBuffer<ActivityEvent> ring = new RingBuffer<>(capacity);
+							for (int i = rows.size() - 1; i >= 0; i--) ring.add(rows.get(i));
+							feed.ring = ring;
+						});
+					} catch (RuntimeException e) {
+						feed.gate.abort(token);
+						throw e;
+					}
+				}
+			}
+		}
+		return feed.ring.latest(limit);
+	}
+
+	/** Adds a committed event, unless the feed's load already read it from the table. */
+	private static void add(Feed feed, ActivityEvent event) {
+		feed.gate.run(() -> {
+			RingBuffer<ActivityEvent> ring = feed.ring;
+			for (ActivityEvent e : ring.latest(ring.capacity())) {
+				if (e.getId().equals(event.getId())) return;
+			}
+			ring.add(event);
+		});
+	}
+}
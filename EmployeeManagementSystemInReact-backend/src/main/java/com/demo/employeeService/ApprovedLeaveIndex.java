@@ -0,0 +1,173 @@
+package com.demo.employeeService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+import com.demo.util.AfterCommit;
+import com.demo.util.SeedGate;
+
+/**
+ * In-memory per-day occupancy of approved leaves. Each day maps to the ids of the
+ * approved leaves covering it, so "who is out on X" is one map lookup and a range
+ * query touches one set per day. Loaded from the database on first use and kept
+ * current by the leave and employee services after their transactions commit.
+ */
+@Component
+public class ApprovedLeaveIndex {
+
+	private static final String APPROVED = "APPROVED";
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	public record Absence(long leaveId, long employeeId, String name, String department, String type,
+			LocalDate startDate, LocalDate endDate) {}
+
+	private record Leave(long leaveId, long employeeId, String type, LocalDate startDate, LocalDate endDate) {}
+
+	private record Person(String name, String department) {}
+
+	private final Map<LocalDate, Set<Long>> leavesByDay = new HashMap<>();
+	private final Map<Long, Leave> leaves = new HashMap<>();
+	private final Map<Long, Person> people = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final SeedGate gate = new SeedGate();
+
+	/** Approved absences covering the date, optionally limited to one department. */
+	public List<Absence> outOn(LocalDate date, String department) {
+		return outBetween(date, date, department);
+	}
+
+	/**
+	 * Approved absences overlapping {@code from..to} inclusive, one per leave, ordered
+	 * by start date, optionally limited to one department (case-insensitive).
+	 */
+	public List<Absence> outBetween(LocalDate from, LocalDate to, String department) {
+		ensureSeeded();
+		lock.readLock().lock();
+		try {
+			Map<Long, Absence> found = new LinkedHashMap<>();
+			for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+				Set<Long> ids = leavesByDay.get(d);
+				if (ids == null) continue;
+				for (Long id : ids) {
+					if (found.containsKey(id)) continue;
+					Leave leave = leaves.get(id);
+					Person person = people.get(leave.employeeId());
+					if (department != null && (person == null || !department.equalsIgnoreCase(person.department()))) continue;
+					found.put(id, new Absence(leave.leaveId(), leave.employeeId(),
+							person != null ? person.name() : null, person != null ? person.department() : null,
+							leave.type(), leave.startDate(), leave.endDate()));
+				}
+			}
+			List<Absence> result = new ArrayList<>(found.values());
+			result.sort(Comparator.comparing(Absence::startDate).thenComparing(Absence::leaveId));
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** Call after a leave is saved; indexes it when approved and drops it otherwise. */
+	public void leaveSaved(LeaveRequest leave) {
+		if (leave.getId() == null) return;
+		long id = leave.getId();
+		boolean approved = APPROVED.equals(leave.getStatus());
+		Leave entry = approved ? toLeave(leave) : null;
+		Employee e = leave.getEmployee();
+		Person person = approved && e != null ? new Person(e.getName(), e.getDepartment()) : null;
+		AfterCommit.run(() -> gate.run(() -> {
+			lock.writeLock().lock();
+			try {
+				remove(id);
+				if (entry != null) {
+					add(entry);
+					people.put(entry.employeeId(), person);
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}));
+	}
+
+	/** Name or department of an employee changed. */
+	public void employeeUpdated(Employee e) {
+		Person person = new Person(e.getName(), e.getDepartment());
+		long id = e.getId();
+		AfterCommit.run(() -> gate.run(() -> {
+			lock.writeLock().lock();
+			try {
+				people.computeIfPresent(id, (k, v) -> person);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}));
+	}
+
+	private void ensureSeeded() {
+		if (gate.isReady()) return;
+		synchronized (this) {
+			if (gate.isReady()) return;
+			// Writes committing while this reads are queued and replayed on top; they replace by leave id.
+			long token = gate.begin();
+			try {
+				List<LeaveRequest> approved = leaveRepo.findByStatus(APPROVED);
+				gate.complete(token, () -> {
+					lock.writeLock().lock();
+					try {
+						for (LeaveRequest l : approved) {
+							Leave entry = toLeave(l);
+							if (entry == null) continue;
+							add(entry);
+							people.put(entry.employeeId(), new Person(l.getEmployee().getName(), l.getEmployee().getDepartment()));
+						}
+					} finally {
+						lock.writeLock().unlock();
+					}
+				});
+			} catch (RuntimeException e) {
+				gate.abort(token);
+				throw e;
+			}
+		}
+	}
+
+	private static Leave toLeave(LeaveRequest l) {
+		if (l.getEmployee() == null || l.getStartDate() == null || l.getEndDate() == null
+				|| l.getEndDate().isBefore(l.getStartDate())) return null;
+		return new Leave(l.getId(), l.getEmployee().getId(), l.getType(), l.getStartDate(), l.getEndDate());
+	}
+
+	private void add(Leave leave) {
+		leaves.put(leave.leaveId(), leave);
+		for (LocalDate d = leave.startDate(); !d.isAfter(leave.endDate()); d = d.plusDays(1)) {
+			leavesByDay.computeIfAbsent(d, k -> new HashSet<>()).add(leave.leaveId());
+		}
+	}
+
+	private void remove(long leaveId) {
+		Leave old = leaves.remove(leaveId);
+		if (old == null) return;
+		for (LocalDate d = old.startDate(); !d.isAfter(old.endDate()); d = d.plusDays(1)) {
+			Set<Long> ids = leavesByDay.get(d);
+			if (ids == null) continue;
+			ids.remove(leaveId);
+			if (ids.isEmpty()) leavesByDay.remove(d);
+		}
+	}
+}
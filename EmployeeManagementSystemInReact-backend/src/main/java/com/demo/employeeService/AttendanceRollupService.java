@@ -0,0 +1,91 @@
+package com.demo.employeeService;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.employeeRepository.AttendanceJdbcRepository;
+import com.demo.employeeRepository.AttendanceJdbcRepository.RollupDelta;
+import com.demo.employeeRepository.AttendanceRollupRepository;
+import com.demo.entity.AttendanceMonthlyRollup;
+
+/**
+ * Monthly attendance rollups. Every attendance write adds its change in days and
+ * hours to the employee's month row, so reading an employee's totals costs one
+ * small aggregate over at most twelve rows a year. A nightly rebuild recomputes
+ * all rows from the attendance table and repairs any drift.
+ */
+@Service
+public class AttendanceRollupService {
+
+	private static final Logger log = LoggerFactory.getLogger(AttendanceRollupService.class);
+
+	@Autowired
+	private AttendanceRollupRepository rollupRepo;
+
+	@Autowired
+	private AttendanceJdbcRepository jdbcRepo;
+
+	public record Summary(long days, double totalHours) {
+		public double averageHours() {
+			return days > 0 ? totalHours / days : 0.0;
+		}
+
+		/** Grade from the average working hours. */
+		public String performanceScore() {
+			double avg = averageHours();
+			return avg >= 8.5 ? "A+" : avg >= 7.5 ? "A" : avg >= 6.0 ? "B" : "C";
+		}
+	}
+
+	/** A day was added for the employee, optionally with its hours already known. */
+	public void dayRecorded(long employeeId, LocalDate date, Double hours) {
+		record(List.of(new RollupDelta(employeeId, date.getYear(), date.getMonthValue(), 1, hours != null ? hours : 0.0)));
+	}
+
+	/** The hours of an existing day changed from {@code oldHours} to {@code newHours}. */
+	public void hoursChanged(long employeeId, LocalDate date, Double oldHours, Double newHours) {
+		double delta = (newHours != null ? newHours : 0.0) - (oldHours != null ? oldHours : 0.0);
+		if (delta == 0.0) return;
+		record(List.of(new RollupDelta(employeeId, date.getYear(), date.getMonthValue(), 0, delta)));
+	}
+
+	/** Applies many deltas, merged per employee and month, in one batch. */
+	public void record(List<RollupDelta> deltas) {
+		if (deltas.isEmpty()) return;
+		Map<String, RollupDelta> merged = new LinkedHashMap<>();
+		for (RollupDelta d : deltas) {
+			merged.merge(d.employeeId() + "|" + d.year() + "|" + d.month(), d, (a, b) ->
+					new RollupDelta(a.employeeId(), a.year(), a.month(), a.days() + b.days(), a.hours() + b.hours()));
+		}
+		jdbcRepo.addToRollups(List.copyOf(merged.values()));
+	}
+
+	public Summary summary(long employeeId) {
+		AttendanceRollupRepository.Totals totals = rollupRepo.totalsFor(employeeId);
+		if (totals == null || totals.getDays() == null) return new Summary(0, 0.0);
+		return new Summary(totals.getDays(), totals.getTotalHours() != null ? totals.getTotalHours() : 0.0);
+	}
+
+	public List<AttendanceMonthlyRollup> months(long employeeId, Integer year) {
+		return year != null
+				? rollupRepo.findByEmployeeIdAndYearOrderByMonthAsc(employeeId, year)
+				: rollupRepo.findByEmployeeIdOrderByYearAscMonthAsc(employeeId);
+	}
+
+	@Transactional
+	@Scheduled(cron = "${app.attendance.rollup.rebuild-cron:0 30 2 * * *}")
+	public int rebuild() {
+		int rows = jdbcRepo.rebuildRollups();
+		log.info("Rebuilt {} attendance rollup rows", rows);
+		return rows;
+	}
+}
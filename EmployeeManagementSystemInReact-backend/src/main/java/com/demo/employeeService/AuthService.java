@@ -7,5 +7,9 @@ public interface AuthService {
     String register(User user);
 
     String login(String email, String password);
+
+    void logout(String email);
+
+    User changeRole(Long userId, String role);
     
 }
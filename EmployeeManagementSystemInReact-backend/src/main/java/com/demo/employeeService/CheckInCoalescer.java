@@ -0,0 +1,186 @@
+package com.demo.employeeService;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.employeeRepository.AttendanceJdbcRepository;
+import com.demo.employeeRepository.AttendanceJdbcRepository.RollupDelta;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Optional write coalescing for the morning check-in rush. Check-ins arriving
+ * within {@code app.attendance.coalesce.window-ms} of each other are written as
+ * one JDBC batch and their ids read back with one query. When a batch hits the
+ * unique (employee, date) constraint it is rolled back and its rows are retried
+ * one by one, so only the duplicates fail. Each batch adds its days to the
+ * monthly rollups in the same transaction as the inserts.
+ */
+@Component
+public class CheckInCoalescer {
+
+	private static final Logger log = LoggerFactory.getLogger(CheckInCoalescer.class);
+
+	@Autowired
+	private AttendanceJdbcRepository jdbcRepo;
+
+	@Autowired
+	private AttendanceRollupService rollups;
+
+	@Autowired
+	private TransactionTemplate tx;
+
+	@Value("${app.attendance.coalesce.enabled:false}")
+	private boolean enabled;
+
+	@Value("${app.attendance.coalesce.window-ms:5}")
+	private long windowMillis;
+
+	@Value("${app.attendance.coalesce.max-batch:500}")
+	private int maxBatch;
+
+	private record Pending(Attendance row, CompletableFuture<Attendance> result) {}
+
+	private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+	private volatile Thread writer;
+
+	@PostConstruct
+	void start() {
+		if (!enabled) return;
+		writer = new Thread(this::drain, "check-in-coalescer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@PreDestroy
+	void stop() {
+		Thread t = writer;
+		writer = null;
+		if (t != null) t.interrupt();
+		Pending p;
+		while ((p = queue.poll()) != null) p.result().completeExceptionally(notRunning());
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/** Queues a check-in for the next batch; fails at once when the writer is not running. */
+	public CompletableFuture<Attendance> submit(Employee employee, LocalDate date, LocalTime checkIn) {
+		if (writer == null) return CompletableFuture.failedFuture(notRunning());
+		Attendance row = new Attendance();
+		row.setEmployee(employee);
+		row.setDate(date);
+		row.setCheckIn(checkIn);
+		Pending pending = new Pending(row, new CompletableFuture<>());
+		queue.add(pending);
+		// stop() may have drained the queue between the check above and the add.
+		if (writer == null && queue.remove(pending)) pending.result().completeExceptionally(notRunning());
+		return pending.result();
+	}
+
+	private void drain() {
+		List<Pending> batch = new ArrayList<>(maxBatch);
+		while (writer != null) {
+			try {
+				batch.add(queue.take());
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMillis);
+				while (batch.size() < maxBatch) {
+					Pending next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+					if (next == null) break;
+					batch.add(next);
+				}
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				batch.forEach(p -> p.result().completeExceptionally(notRunning()));
+				break;
+			} catch (RuntimeException e) {
+				log.error("Check-in batch of {} failed", batch.size(), e);
+				batch.forEach(p -> p.result().completeExceptionally(e));
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<Pending> batch) {
+		// Two clicks from the same employee in one window: the later one is a duplicate.
+		List<Pending> unique = new ArrayList<>(batch.size());
+		Set<String> seen = new HashSet<>();
+		for (Pending p : batch) {
+			if (seen.add(p.row().getEmployee().getId() + "|" + p.row().getDate())) unique.add(p);
+			else p.result().completeExceptionally(alreadyCheckedIn());
+		}
+
+		List<Attendance> rows = unique.stream().map(Pending::row).toList();
+		List<Pending> written;
+		try {
+			tx.executeWithoutResult(status -> {
+				jdbcRepo.batchInsert(rows);
+				rollups.record(rows.stream().map(CheckInCoalescer::newDay).toList());
+			});
+			written = unique;
+		} catch (DataIntegrityViolationException e) {
+			written = new ArrayList<>();
+			for (Pending p : unique) {
+				try {
+					tx.executeWithoutResult(status -> {
+						jdbcRepo.insert(p.row());
+						rollups.record(List.of(newDay(p.row())));
+					});
+					written.add(p);
+				} catch (DuplicateKeyException dup) {
+					p.result().completeExceptionally(alreadyCheckedIn());
+				} catch (RuntimeException other) {
+					p.result().completeExceptionally(other);
+				}
+			}
+		}
+
+		// Every row in a window shares a date unless it straddles midnight.
+		Map<LocalDate, List<Pending>> byDate = new HashMap<>();
+		for (Pending p : written) byDate.computeIfAbsent(p.row().getDate(), d -> new ArrayList<>()).add(p);
+		byDate.forEach((date, group) -> {
+			Map<Long, Long> ids = jdbcRepo.findIds(date, group.stream().map(p -> p.row().getEmployee().getId()).toList());
+			for (Pending p : group) {
+				p.row().setId(ids.get(p.row().getEmployee().getId()));
+				p.result().complete(p.row());
+			}
+		});
+	}
+
+	private static RollupDelta newDay(Attendance row) {
+		return new RollupDelta(row.getEmployee().getId(), row.getDate().getYear(), row.getDate().getMonthValue(), 1, 0.0);
+	}
+
+	private static IllegalStateException notRunning() {
+		return new IllegalStateException("Check-in writer is not running");
+	}
+
+	static RuntimeException alreadyCheckedIn() {
+		return new RuntimeException("Already checked in for today");
+	}
+}
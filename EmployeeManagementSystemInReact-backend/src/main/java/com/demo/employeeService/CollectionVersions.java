@@ -0,0 +1,124 @@
+package com.demo.employeeService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.demo.util.AfterCommit;
+
+/**
+ * Change counters for collections served with ETags. Every committed write to a
+ * collection bumps its counter, so a tag built from the counter and the request
+ * parameters changes exactly when the response could. The tag also carries an id
+ * drawn at startup, so tags handed out before a restart never match again.
+ *
+ * Readers must take the tag before querying: a write that commits in between
+ * then leaves the client with an already stale tag, never a fresh tag on old data.
+ *
+ * The same read is served as JSON, CBOR or Smile depending on Accept, so the
+ * tag names the format too and responses carry {@code Vary: Accept}.
+ */
+@Component
+public class CollectionVersions {
+
+	public static final String EMPLOYEES = "employees";
+	public static final String DEPARTMENTS = "departments";
+
+	private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+	private final String bootId = Long.toString(UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE, 36);
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	/** Marks the collection changed once the current transaction commits. */
+	public void bump(String collection) {
+		AfterCommit.run(() -> counter(collection).incrementAndGet());
+	}
+
+	public long version(String collection) {
+		return counter(collection).get();
+	}
+
+	/**
+	 * Weak ETag for a read of the collection with the given parameters, in the
+	 * format the request's Accept header selects. Adds {@code Vary: Accept} to the
+	 * response, including a 304. The tag is weak because gzip changes the bytes
+	 * but not the content, and Tomcat only compresses responses with weak tags.
+	 */
+	public String etag(WebRequest request, String collection, Object... params) {
+		if (request instanceof ServletWebRequest servlet && servlet.getResponse() != null
+				&& !servlet.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+			servlet.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		}
+		return "W/\"" + collection + "-" + bootId + "-" + version(collection)
+				+ "-" + digest(params) + "-" + format(request.getHeader(HttpHeaders.ACCEPT)) + "\"";
+	}
+
+	/**
+	 * SHA-256 of the parameters in a canonical form, truncated to 128 bits: each
+	 * value length-prefixed, collections element by element, null distinct from
+	 * "null". Different parameters therefore never share a tag in practice.
+	 */
+	static String digest(Object... params) {
+		StringBuilder canonical = new StringBuilder();
+		for (Object param : params) append(canonical, param);
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void append(StringBuilder out, Object value) {
+		if (value == null) {
+			out.append('~');
+		} else if (value instanceof Collection<?> values) {
+			out.append('[').append(values.size()).append(':');
+			for (Object v : values) append(out, v);
+			out.append(']');
+		} else {
+			String s = value.toString();
+			out.append(s.length()).append(':').append(s);
+		}
+	}
+
+	/** The encoding the message converters will pick: JSON first, then CBOR and Smile, by quality. */
+	static String format(String accept) {
+		if (accept == null || accept.isBlank()) return "json";
+		List<MediaType> types;
+		try {
+			types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+		} catch (InvalidMediaTypeException e) {
+			return "json";
+		}
+		types.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+		for (MediaType type : types) {
+			if (type.getQualityValue() == 0) continue;
+			if (type.includes(MediaType.APPLICATION_JSON)) return "json";
+			if (type.includes(MediaType.APPLICATION_CBOR)) return "cbor";
+			if (type.includes(SMILE)) return "smile";
+		}
+		return "json";
+	}
+
+	private AtomicLong counter(String collection) {
+		return versions.computeIfAbsent(collection, c -> new AtomicLong());
+	}
+}
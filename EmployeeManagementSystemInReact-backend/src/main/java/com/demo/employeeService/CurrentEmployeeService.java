@@ -0,0 +1,46 @@
+package com.demo.employeeService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+
+/**
+ * Resolves the employee record of the authenticated caller. The email to id
+ * mapping is cached by {@link IdentityResolver}, so after the first request a
+ * caller is resolved without a lookup on the employee table.
+ */
+@Service
+public class CurrentEmployeeService {
+
+	@Autowired
+	private EmployeeRepository repo;
+
+	@Autowired
+	private IdentityResolver identity;
+
+	public String currentEmail() {
+		Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+		return auth != null ? auth.getName() : null;
+	}
+
+	/** Employee id of the caller, or null when no profile exists for the principal. */
+	public Long currentEmployeeId() {
+		return identity.employeeIdForEmail(currentEmail());
+	}
+
+	/** Fully loaded employee record of the caller. */
+	public Employee currentEmployee() {
+		Long id = currentEmployeeId();
+		return id != null ? repo.findById(id).orElse(null) : null;
+	}
+
+	/** Uninitialised reference, for use as a query parameter without loading the row. */
+	public Employee currentEmployeeRef() {
+		Long id = currentEmployeeId();
+		return id != null ? repo.getReferenceById(id) : null;
+	}
+}
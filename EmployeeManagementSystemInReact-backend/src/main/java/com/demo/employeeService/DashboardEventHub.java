@@ -0,0 +1,273 @@
+package com.demo.employeeService;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.demo.entity.ActivityEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-sent event channel behind {@code /api/dashboard/stream}. Each open
+ * stream is an async request holding no servlet thread. Writers only mark what
+ * changed; one timer thread coalesces those marks every
+ * {@code app.dashboard.stream.flush-ms} and queues each subscriber at most one
+ * {@code stats} event per tick, plus any new {@code activity} events. Socket
+ * writes and per-employee stats queries run on a small sender pool, never on
+ * the timer. Each subscriber has a queue of
+ * {@code app.dashboard.stream.queue-size} events; one that falls that far
+ * behind is completed and must reconnect. Idle streams get a comment line
+ * every {@code app.dashboard.stream.heartbeat-ms} so proxies keep them open.
+ */
+@Component
+public class DashboardEventHub {
+
+	private static final Logger log = LoggerFactory.getLogger(DashboardEventHub.class);
+
+	@Autowired
+	private DashboardStatsStore statsStore;
+
+	@Autowired
+	private AttendanceRollupService rollups;
+
+	@Autowired
+	private LeaveBalanceService leaveBalances;
+
+	@Value("${app.dashboard.stream.timeout-ms:1800000}")
+	private long timeoutMillis;
+
+	@Value("${app.dashboard.stream.flush-ms:250}")
+	private long flushMillis;
+
+	@Value("${app.dashboard.stream.heartbeat-ms:15000}")
+	private long heartbeatMillis;
+
+	@Value("${app.dashboard.stream.queue-size:64}")
+	private int queueSize;
+
+	@Value("${app.dashboard.stream.senders:4}")
+	private int senderThreads;
+
+	private static final class Subscriber {
+		final SseEmitter emitter;
+		final boolean admin;
+		final Long employeeId;
+		final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+		final AtomicBoolean draining = new AtomicBoolean();
+
+		Subscriber(SseEmitter emitter, boolean admin, Long employeeId, int queueSize) {
+			this.emitter = emitter;
+			this.admin = admin;
+			this.employeeId = employeeId;
+			this.queue = new ArrayBlockingQueue<>(queueSize);
+		}
+	}
+
+	private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+	private final Set<Long> changedEmployees = ConcurrentHashMap.newKeySet();
+	private final ConcurrentLinkedQueue<ActivityEvent> activities = new ConcurrentLinkedQueue<>();
+	private volatile DashboardStatsStore.Snapshot lastAdminStats;
+	private ScheduledExecutorService timer;
+	private ExecutorService senders;
+
+	@PostConstruct
+	void start() {
+		timer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "dashboard-stream");
+			t.setDaemon(true);
+			return t;
+		});
+		senders = Executors.newFixedThreadPool(senderThreads, r -> {
+			Thread t = new Thread(r, "dashboard-stream-send");
+			t.setDaemon(true);
+			return t;
+		});
+		timer.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+		timer.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		timer.shutdownNow();
+		senders.shutdownNow();
+		subscribers.forEach(s -> s.emitter.complete());
+	}
+
+	/** Opens a stream and sends the caller's current stats as its first event. */
+	public SseEmitter subscribe(boolean admin, Long employeeId) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		Subscriber subscriber = new Subscriber(emitter, admin, employeeId, queueSize);
+		emitter.onCompletion(() -> subscribers.remove(subscriber));
+		emitter.onTimeout(() -> subscribers.remove(subscriber));
+		emitter.onError(e -> subscribers.remove(subscriber));
+
+		Map<String, Object> initial = admin ? adminStats(statsStore.snapshot())
+				: employeeId != null ? employeeStats(employeeId) : Map.of();
+		if (send(subscriber, SseEmitter.event().name("stats").data(initial))) {
+			subscribers.add(subscriber);
+		}
+		return emitter;
+	}
+
+	/** Attendance or leave figures of this employee changed; pushed on the next tick. */
+	public void employeeChanged(long employeeId) {
+		if (!subscribers.isEmpty()) changedEmployees.add(employeeId);
+	}
+
+	/** A committed feed event, for admins when visible to all and for its employee. */
+	public void activity(ActivityEvent event) {
+		if (!subscribers.isEmpty()) activities.add(event);
+		if (event.getEmployeeId() != null) employeeChanged(event.getEmployeeId());
+	}
+
+	/** Sends everything that changed since the last tick. */
+	private void flush() {
+		if (subscribers.isEmpty()) {
+			changedEmployees.clear();
+			activities.clear();
+			lastAdminStats = null;
+			return;
+		}
+
+		ActivityEvent event;
+		while ((event = activities.poll()) != null) {
+			Map<String, String> data = Map.of("text", event.getText(), "time", event.getTimeLabel(), "type", event.getType());
+			for (Subscriber s : subscribers) {
+				boolean mine = event.getEmployeeId() != null && event.getEmployeeId().equals(s.employeeId);
+				if (s.admin ? event.isVisibleToAll() : mine) {
+					enqueue(s, SseEmitter.event().name("activity").data(data));
+				}
+			}
+		}
+
+		// The admin counters live in memory, so comparing them each tick is free.
+		if (subscribers.stream().anyMatch(s -> s.admin)) {
+			DashboardStatsStore.Snapshot snapshot = statsStore.snapshot();
+			if (!snapshot.equals(lastAdminStats)) {
+				lastAdminStats = snapshot;
+				Map<String, Object> data = adminStats(snapshot);
+				subscribers.stream().filter(s -> s.admin)
+						.forEach(s -> enqueue(s, SseEmitter.event().name("stats").data(data)));
+			}
+		}
+
+		for (Long employeeId : Set.copyOf(changedEmployees)) {
+			changedEmployees.remove(employeeId);
+			List<Subscriber> watching = subscribers.stream()
+					.filter(s -> !s.admin && employeeId.equals(s.employeeId)).toList();
+			if (!watching.isEmpty()) senders.execute(() -> pushEmployeeStats(employeeId, watching));
+		}
+	}
+
+	/** Runs on a sender thread: the figures come from the database. */
+	private void pushEmployeeStats(long employeeId, List<Subscriber> watching) {
+		try {
+			Map<String, Object> data = employeeStats(employeeId);
+			watching.forEach(s -> enqueue(s, SseEmitter.event().name("stats").data(data)));
+		} catch (RuntimeException e) {
+			log.warn("Dashboard stats for employee {} failed: {}", employeeId, e.getMessage());
+		}
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.warn("Dashboard stream flush failed: {}", e.getMessage());
+		}
+	}
+
+	private void heartbeat() {
+		subscribers.forEach(s -> enqueue(s, SseEmitter.event().comment("ping")));
+	}
+
+	/** Queues an event for the subscriber's sender; a subscriber whose queue is full is dropped. */
+	private void enqueue(Subscriber s, SseEmitter.SseEventBuilder event) {
+		if (!s.queue.offer(event)) {
+			log.debug("Dashboard stream subscriber fell behind; closing it");
+			subscribers.remove(s);
+			s.queue.clear();
+			s.emitter.complete();
+			return;
+		}
+		if (s.draining.compareAndSet(false, true)) {
+			try {
+				senders.execute(() -> drain(s));
+			} catch (RejectedExecutionException e) {
+				s.draining.set(false);
+			}
+		}
+	}
+
+	/** Sends queued events in order; at most one drain per subscriber runs at a time. */
+	private void drain(Subscriber s) {
+		do {
+			SseEmitter.SseEventBuilder event;
+			while ((event = s.queue.poll()) != null) {
+				if (!send(s, event)) {
+					s.queue.clear();
+					break;
+				}
+			}
+			s.draining.set(false);
+		} while (!s.queue.isEmpty() && s.draining.compareAndSet(false, true));
+	}
+
+	private boolean send(Subscriber s, SseEmitter.SseEventBuilder event) {
+		try {
+			s.emitter.send(event);
+			return true;
+		} catch (IOException e) {
+			// Client went away; the container reports it through onError/onCompletion too.
+			subscribers.remove(s);
+			s.emitter.completeWithError(e);
+			return false;
+		} catch (IllegalStateException e) {
+			// Already completed or timed out.
+			subscribers.remove(s);
+			return false;
+		}
+	}
+
+	private static Map<String, Object> adminStats(DashboardStatsStore.Snapshot snapshot) {
+		Map<String, Object> stats = new HashMap<>();
+		stats.put("totalEmployees", snapshot.totalEmployees());
+		stats.put("activeEmployees", snapshot.activeEmployees());
+		stats.put("pendingLeaves", snapshot.pendingLeaves());
+		stats.put("onLeaveToday", snapshot.onLeaveToday());
+		stats.put("attendanceRate", snapshot.attendanceRate());
+		return stats;
+	}
+
+	private Map<String, Object> employeeStats(long employeeId) {
+		AttendanceRollupService.Summary attendance = rollups.summary(employeeId);
+		Map<String, Object> stats = new HashMap<>();
+		stats.put("presentDays", attendance.days());
+		stats.put("leavesRemaining", Math.round(leaveBalances.remaining(employeeId, LocalDate.now().getYear())));
+		stats.put("performanceScore", attendance.performanceScore());
+		return stats;
+	}
+}
@@ -0,0 +1,161 @@
+package com.demo.employeeService;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.demo.employeeRepository.AttendanceRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.util.AfterCommit;
+import com.demo.util.SeedGate;
+
+/**
+ * Running totals behind the admin dashboard. The counters are seeded once with
+ * COUNT queries and then kept current by the employee, leave and attendance
+ * services, so reading them never touches the database. The "today" counters
+ * are re-seeded the first time they are read on a new day.
+ *
+ * Writes that commit while a seed is counting are queued and applied on top of
+ * the counts, so none is lost. One that committed just before a count but
+ * reports just after it is counted twice; the periodic reconcile re-counts
+ * everything to bound that drift.
+ */
+@Component
+public class DashboardStatsStore {
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	@Autowired
+	private AttendanceRepository attendanceRepo;
+
+	private final AtomicLong totalEmployees = new AtomicLong();
+	private final AtomicLong activeEmployees = new AtomicLong();
+	private final AtomicLong pendingLeaves = new AtomicLong();
+	private final AtomicLong onLeaveToday = new AtomicLong();
+	private final AtomicLong checkedInToday = new AtomicLong();
+
+	private final SeedGate gate = new SeedGate();
+	private volatile LocalDate day;
+
+	public Snapshot snapshot() {
+		ensureCurrent();
+		return new Snapshot(totalEmployees.get(), activeEmployees.get(), pendingLeaves.get(),
+				onLeaveToday.get(), checkedInToday.get());
+	}
+
+	// ---- employee writes ----
+
+	public void employeeCreated(String status) {
+		AfterCommit.run(() -> gate.run(() -> {
+			totalEmployees.incrementAndGet();
+			if (isActive(status)) activeEmployees.incrementAndGet();
+		}));
+	}
+
+	public void employeesCreated(long count, long active) {
+		AfterCommit.run(() -> gate.run(() -> {
+			totalEmployees.addAndGet(count);
+			activeEmployees.addAndGet(active);
+		}));
+	}
+
+	public void employeeUpdated(String oldStatus, String newStatus) {
+		AfterCommit.run(() -> gate.run(() -> {
+			if (isActive(oldStatus) && !isActive(newStatus)) activeEmployees.decrementAndGet();
+			if (!isActive(oldStatus) && isActive(newStatus)) activeEmployees.incrementAndGet();
+		}));
+	}
+
+	public void employeeDeleted(String status) {
+		AfterCommit.run(() -> gate.run(() -> {
+			totalEmployees.decrementAndGet();
+			if (isActive(status)) activeEmployees.decrementAndGet();
+		}));
+	}
+
+	// ---- leave writes ----
+
+	public void leaveStatusChanged(String oldStatus, String newStatus, LocalDate start, LocalDate end) {
+		AfterCommit.run(() -> gate.run(() -> {
+			if ("PENDING".equals(oldStatus)) pendingLeaves.decrementAndGet();
+			if ("PENDING".equals(newStatus)) pendingLeaves.incrementAndGet();
+
+			if (day != null && covers(start, end, day)) {
+				if ("APPROVED".equals(oldStatus)) onLeaveToday.decrementAndGet();
+				if ("APPROVED".equals(newStatus)) onLeaveToday.incrementAndGet();
+			}
+		}));
+	}
+
+	// ---- attendance writes ----
+
+	public void checkedIn(LocalDate date) {
+		AfterCommit.run(() -> gate.run(() -> {
+			if (date.equals(day)) checkedInToday.incrementAndGet();
+		}));
+	}
+
+	/** Re-counts everything, correcting any drift from writes that raced a seed. */
+	@Scheduled(fixedDelayString = "${app.dashboard.reconcile-ms:300000}", initialDelayString = "${app.dashboard.reconcile-ms:300000}")
+	public void reconcile() {
+		if (gate.isReady()) seed(true);
+	}
+
+	private void ensureCurrent() {
+		if (gate.isReady() && LocalDate.now().equals(day)) return;
+		seed(false);
+	}
+
+	private synchronized void seed(boolean full) {
+		LocalDate today = LocalDate.now();
+		boolean all = full || !gate.isReady();
+		if (!all && today.equals(day)) return;
+
+		long token = gate.begin();
+		try {
+			long total = all ? employeeRepo.count() : 0;
+			long active = all ? employeeRepo.countByStatusIgnoreCase("ACTIVE") : 0;
+			long pending = all ? leaveRepo.countByStatus("PENDING") : 0;
+			long onLeave = leaveRepo.countApprovedLeavesOnDate(today);
+			long checkedIn = attendanceRepo.countByDate(today);
+			gate.complete(token, () -> {
+				if (all) {
+					totalEmployees.set(total);
+					activeEmployees.set(active);
+					pendingLeaves.set(pending);
+				}
+				onLeaveToday.set(onLeave);
+				checkedInToday.set(checkedIn);
+				day = today;
+			});
+		} catch (RuntimeException e) {
+			gate.abort(token);
+			throw e;
+		}
+	}
+
+	private static boolean isActive(String status) {
+		return "ACTIVE".equalsIgnoreCase(status);
+	}
+
+	private static boolean covers(LocalDate start, LocalDate end, LocalDate date) {
+		return start != null && end != null && !date.isBefore(start) && !date.isAfter(end);
+	}
+
+	public record Snapshot(long totalEmployees, long activeEmployees, long pendingLeaves,
+			long onLeaveToday, long checkedInToday) {
+
+		/** Check-ins today over active employees, e.g. "85%". */
+		public String attendanceRate() {
+			return activeEmployees > 0 ? ((checkedInToday * 100) / activeEmployees) + "%" : "0%";
+		}
+	}
+}
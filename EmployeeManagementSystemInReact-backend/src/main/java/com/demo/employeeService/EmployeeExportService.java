@@ -0,0 +1,85 @@
+package com.demo.employeeService;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.util.EmployeeCsvColumns;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes the employee directory row by row while it is read from a forward-only
+ * cursor. The persistence context is cleared every {@code app.export.clear-every}
+ * rows, so memory use does not grow with the size of the table.
+ */
+@Service
+public class EmployeeExportService {
+
+	public enum Format { NDJSON, CSV }
+
+	@Autowired
+	private EmployeeRepository repo;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@PersistenceContext
+	private EntityManager em;
+
+	@Value("${app.export.clear-every:500}")
+	private int clearEvery;
+
+	@Transactional(readOnly = true)
+	public long export(Format format, OutputStream target) throws IOException {
+		OutputStream out = new BufferedOutputStream(target, 64 * 1024);
+		ObjectWriter writer = mapper.writerFor(Employee.class);
+		long rows = 0;
+
+		if (format == Format.CSV) {
+			out.write(EmployeeCsvColumns.headerLine().getBytes(StandardCharsets.UTF_8));
+		}
+
+		try (Stream<Employee> employees = repo.streamAllOrderById()) {
+			Iterator<Employee> it = employees.iterator();
+			while (it.hasNext()) {
+				Employee e = it.next();
+				if (format == Format.CSV) {
+					out.write(EmployeeCsvColumns.toLine(e).getBytes(StandardCharsets.UTF_8));
+				} else {
+					out.write(writer.writeValueAsBytes(e));
+					out.write('\n');
+				}
+				if (++rows % clearEvery == 0) {
+					em.clear();
+					out.flush();
+				}
+			}
+		}
+
+		out.flush();
+		return rows;
+	}
+
+	public static Format parseFormat(String format) {
+		if (format == null || format.isBlank()) return Format.NDJSON;
+		try {
+			return Format.valueOf(format.trim().toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unsupported export format: " + format);
+		}
+	}
+}
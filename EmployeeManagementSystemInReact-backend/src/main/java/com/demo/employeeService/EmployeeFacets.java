@@ -0,0 +1,89 @@
+package com.demo.employeeService;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.demo.dto.FacetCount;
+import com.demo.employeeRepository.EmployeeProjectionRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.EmployeeSpecifications;
+import com.demo.entity.Employee;
+import com.demo.util.LruCache;
+
+/**
+ * Headcounts per department, status, work model, employment type, gender and
+ * city, computed with one GROUP BY per facet so no employee rows are loaded.
+ * A filter narrows every facet except its own: filtered to one department, the
+ * department facet still lists the others to switch to.
+ *
+ * Results are cached per filter combination and dropped on the next committed
+ * employee write, tracked by the same counter as the directory ETags.
+ */
+@Component
+public class EmployeeFacets {
+
+	public static final List<String> FACETS = List.of("department", "status", "workModel", "employmentType", "gender", "city");
+
+	/** {@code total} counts the employees matching every filter. */
+	public record Result(long total, Map<String, List<FacetCount>> facets) {}
+
+	private record Cached(long version, Result result) {}
+
+	@Autowired
+	private EmployeeProjectionRepository projections;
+
+	@Autowired
+	private EmployeeRepository repo;
+
+	@Autowired
+	private CollectionVersions versions;
+
+	private final LruCache<Map<String, String>, Cached> cache;
+
+	public EmployeeFacets(@Value("${app.facets.cache-size:256}") int cacheSize) {
+		this.cache = new LruCache<>(cacheSize);
+	}
+
+	/** Counts under the given facet filters; blank values are ignored, unknown facets rejected. */
+	public Result count(Map<String, String> filters) {
+		Map<String, String> key = new TreeMap<>();
+		filters.forEach((facet, value) -> {
+			if (!FACETS.contains(facet)) throw new IllegalArgumentException("Unknown facet: " + facet);
+			if (value != null && !value.isBlank()) key.put(facet, value.trim());
+		});
+
+		// Read the version first, so a write committing mid-query leaves a stale entry behind, not a fresh-looking one.
+		long version = versions.version(CollectionVersions.EMPLOYEES);
+		Cached cached = cache.get(key);
+		if (cached != null && cached.version() == version) return cached.result();
+
+		Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+		Long total = null;
+		for (String facet : FACETS) {
+			List<FacetCount> counts = projections.countBy(facet, matchingExcept(key, facet));
+			facets.put(facet, counts);
+			if (total == null && !key.containsKey(facet)) total = counts.stream().mapToLong(FacetCount::count).sum();
+		}
+		if (total == null) total = repo.count(matchingExcept(key, null));
+
+		Result result = new Result(total, facets);
+		cache.put(key, new Cached(version, result));
+		return result;
+	}
+
+	private static Specification<Employee> matchingExcept(Map<String, String> filters, String facet) {
+		List<Specification<Employee>> specs = new ArrayList<>();
+		filters.forEach((f, value) -> {
+			if (!f.equals(facet)) specs.add(EmployeeSpecifications.attributeEquals(f, value));
+		});
+		return Specification.allOf(specs);
+	}
+}
@@ -0,0 +1,238 @@
+package com.demo.employeeService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.dto.ImportReport;
+import com.demo.employeeRepository.EmployeeJdbcRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.util.CsvReader;
+import com.demo.util.EmployeeCsvColumns;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk employee import from CSV or NDJSON. Rows are read in chunks of
+ * {@code app.import.batch-size}; each chunk is validated in parallel, checked
+ * for duplicate emails with a single query and written as one JDBC batch in
+ * its own transaction. Invalid rows are reported and skipped.
+ */
+@Service
+public class EmployeeImportService {
+
+	private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+	@Autowired
+	private EmployeeRepository repo;
+
+	@Autowired
+	private EmployeeJdbcRepository jdbcRepo;
+
+	@Autowired
+	private TransactionTemplate tx;
+
+	@Autowired
+	private ObjectMapper mapper;
+
+	@Autowired
+	private DashboardStatsStore stats;
+
+	@Autowired
+	private IdentityResolver identity;
+
+	@Autowired
+	private ActivityFeed feed;
+
+	@Autowired
+	private CollectionVersions versions;
+
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
+
+	@Value("${app.import.batch-size:1000}")
+	private int batchSize;
+
+	@Value("${app.import.max-reported-errors:1000}")
+	private int maxReportedErrors;
+
+	private record Row(long line, Employee employee, String error) {
+		Row fail(String message) {
+			return new Row(line, employee, message);
+		}
+	}
+
+	private interface RowSource {
+		Row next() throws IOException;
+	}
+
+	public ImportReport importEmployees(EmployeeExportService.Format format, InputStream in) throws IOException {
+		long start = System.nanoTime();
+		ImportReport report = new ImportReport();
+		Set<String> seenEmails = new HashSet<>();
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			RowSource source = format == EmployeeExportService.Format.CSV ? csvSource(reader) : ndjsonSource(reader);
+			List<Row> chunk = new ArrayList<>(batchSize);
+			Row row;
+			while ((row = source.next()) != null) {
+				chunk.add(row);
+				if (chunk.size() >= batchSize) {
+					processChunk(chunk, seenEmails, report);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) processChunk(chunk, seenEmails, report);
+		}
+
+		if (report.getImported() > 0) {
+			feed.append(null, true, "HIRE", report.getImported() + " employees imported", "Recent");
+		}
+
+		long elapsed = (System.nanoTime() - start) / 1_000_000;
+		report.setElapsedMillis(elapsed);
+		report.setRowsPerSecond(elapsed > 0 ? report.getImported() * 1000.0 / elapsed : report.getImported());
+		return report;
+	}
+
+	private void processChunk(List<Row> chunk, Set<String> seenEmails, ImportReport report) {
+		List<Row> checked = chunk.parallelStream()
+				.map(r -> r.error() != null ? r : validate(r))
+				.collect(Collectors.toList());
+
+		// Duplicates inside the file, in input order.
+		for (int i = 0; i < checked.size(); i++) {
+			Row r = checked.get(i);
+			if (r.error() == null && !seenEmails.add(r.employee().getEmail().toLowerCase())) {
+				checked.set(i, r.fail("Duplicate email in file: " + r.employee().getEmail()));
+			}
+		}
+
+		// Duplicates already in the database, one query per chunk.
+		List<String> candidates = checked.stream()
+				.filter(r -> r.error() == null)
+				.map(r -> r.employee().getEmail())
+				.collect(Collectors.toList());
+		if (!candidates.isEmpty()) {
+			Set<String> existing = repo.findExistingEmails(candidates).stream()
+					.map(String::toLowerCase)
+					.collect(Collectors.toSet());
+			for (int i = 0; i < checked.size(); i++) {
+				Row r = checked.get(i);
+				if (r.error() == null && existing.contains(r.employee().getEmail().toLowerCase())) {
+					checked.set(i, r.fail("Email already exists: " + r.employee().getEmail()));
+				}
+			}
+		}
+
+		List<Employee> valid = checked.stream()
+				.filter(r -> r.error() == null)
+				.map(Row::employee)
+				.collect(Collectors.toList());
+
+		if (!valid.isEmpty()) {
+			try {
+				tx.executeWithoutResult(status -> jdbcRepo.batchInsert(valid));
+				long active = valid.stream().filter(e -> "ACTIVE".equalsIgnoreCase(e.getStatus())).count();
+				stats.employeesCreated(valid.size(), active);
+				identity.employeesCreated();
+				versions.bump(CollectionVersions.EMPLOYEES);
+				searchIndex.employeesImported();
+			} catch (RuntimeException e) {
+				String message = "Batch rejected by the database: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+				for (int i = 0; i < checked.size(); i++) {
+					if (checked.get(i).error() == null) checked.set(i, checked.get(i).fail(message));
+				}
+				valid.clear();
+			}
+		}
+
+		report.setTotalRows(report.getTotalRows() + chunk.size());
+		report.setImported(report.getImported() + valid.size());
+		for (Row r : checked) {
+			if (r.error() == null) continue;
+			report.setFailed(report.getFailed() + 1);
+			if (report.getErrors().size() < maxReportedErrors) {
+				report.getErrors().add(new ImportReport.RowError(r.line(), r.error()));
+			} else {
+				report.setErrorsTruncated(true);
+			}
+		}
+	}
+
+	private Row validate(Row r) {
+		Employee e = r.employee();
+		if (e.getName() == null || e.getName().isBlank()) return r.fail("name is required");
+		if (e.getEmail() == null || !EMAIL.matcher(e.getEmail().trim()).matches()) return r.fail("email is missing or invalid");
+		if (e.getSalary() != null && e.getSalary() < 0) return r.fail("salary must not be negative");
+
+		e.setId(0);
+		e.setEmail(e.getEmail().trim());
+		if (e.getStatus() == null || e.getStatus().isBlank()) e.setStatus("ACTIVE");
+		return r;
+	}
+
+	private RowSource csvSource(BufferedReader reader) throws IOException {
+		CsvReader csv = new CsvReader(reader);
+		List<String> header = csv.next();
+		if (header == null) return () -> null;
+
+		List<EmployeeCsvColumns.Column> columns = new ArrayList<>();
+		for (String name : header) {
+			EmployeeCsvColumns.Column column = EmployeeCsvColumns.byName(name);
+			columns.add(column != null && column.setter() != null ? column : null);
+		}
+
+		return () -> {
+			long line = csv.getLine();
+			List<String> values = csv.next();
+			if (values == null) return null;
+
+			Employee e = new Employee();
+			for (int i = 0; i < values.size() && i < columns.size(); i++) {
+				EmployeeCsvColumns.Column column = columns.get(i);
+				String value = values.get(i).trim();
+				if (column == null || value.isEmpty()) continue;
+				try {
+					column.setter().accept(e, value);
+				} catch (RuntimeException ex) {
+					return new Row(line, e, "Invalid value for " + column.name() + ": " + value);
+				}
+			}
+			return new Row(line, e, null);
+		};
+	}
+
+	private RowSource ndjsonSource(BufferedReader reader) {
+		long[] line = {0};
+		return () -> {
+			String text;
+			do {
+				text = reader.readLine();
+				line[0]++;
+			} while (text != null && text.isBlank());
+			if (text == null) return null;
+
+			try {
+				return new Row(line[0], mapper.readValue(text, Employee.class), null);
+			} catch (JsonProcessingException ex) {
+				return new Row(line[0], new Employee(), "Malformed JSON: " + ex.getOriginalMessage());
+			}
+		};
+	}
+}
@@ -0,0 +1,338 @@
+package com.demo.employeeService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.demo.employeeRepository.EmployeeProjectionRepository;
+import com.demo.entity.Employee;
+import com.demo.util.AfterCommit;
+import com.demo.util.SeedGate;
+
+/**
+ * In-memory search over the employee directory. Name, employee id, email,
+ * designation, department and city are split into lower-case tokens, and each
+ * field keeps a sorted map from token to the sorted ids of the employees
+ * containing it, which serves exact lookups and prefix ranges alike.
+ *
+ * Every query term must match a token as a whole or as a prefix. A term scores
+ * the weight of the best field it hits, doubled for a whole-token match, so a
+ * hit on the name outranks one on the city. Candidates come from the longest
+ * term, best-scoring field first, and the other terms are checked against the
+ * candidate's own tokens; the scan stops once no remaining candidate can beat
+ * the results already held, which keeps broad prefixes like "a" cheap. Equal
+ * scores keep the order they were found in: matched token, then id.
+ *
+ * Loaded from the database on first use and kept current by the employee
+ * services after their transactions commit; writes that commit while a load is
+ * reading are replayed on top of it. A CSV import invalidates the index, a load
+ * in progress included, and the next query reloads it.
+ */
+@Component
+public class EmployeeSearchIndex {
+
+	private static final List<String> FIELDS = List.of("id", "name", "employeeId", "email", "designation", "department", "city");
+	private static final int[] WEIGHTS = {10, 8, 6, 3, 2, 1}; // in the order of FIELDS after id
+
+	/** (field, exact) pairs by descending score: name exact 20, employee id exact 16, ... city prefix 1. */
+	private static final List<int[]> TIERS = buildTiers();
+
+	@Autowired
+	private EmployeeProjectionRepository projections;
+
+	public record Hit(long id, String name, String email, String employeeId, String department,
+			String designation, String city, int score) {}
+
+	public record Suggestion(long id, String name, String employeeId, String department) {}
+
+	/** values[i] is the field FIELDS[i + 1]; tokens[i] its tokens. */
+	private record Doc(long id, String[] values, String[][] tokens) {
+		Hit hit(int score) {
+			return new Hit(id, values[0], values[2], values[1], values[4], values[3], values[5], score);
+		}
+	}
+
+	private record Ranked(Doc doc, int score, long seq) {}
+
+	@SuppressWarnings("unchecked")
+	private final NavigableMap<String, long[]>[] postings = new NavigableMap[WEIGHTS.length];
+	private final Map<Long, Doc> docs = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final SeedGate gate = new SeedGate();
+
+	public EmployeeSearchIndex() {
+		for (int f = 0; f < postings.length; f++) postings[f] = new TreeMap<>();
+	}
+
+	/** Best matches first; every term of the query must match a field, as a whole token or a prefix. */
+	public List<Hit> search(String query, int limit) {
+		List<String> terms = tokens(query);
+		if (terms.isEmpty() || limit <= 0) return List.of();
+		terms.sort(Comparator.comparingInt(String::length).reversed());
+		ensureSeeded();
+		lock.readLock().lock();
+		try {
+			return rank(terms, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** Type-ahead variant of {@link #search} with a lighter payload. */
+	public List<Suggestion> suggest(String prefix, int limit) {
+		return search(prefix, limit).stream()
+				.map(h -> new Suggestion(h.id(), h.name(), h.employeeId(), h.department()))
+				.toList();
+	}
+
+	/** Call after an employee is created or updated. */
+	public void employeeSaved(Employee e) {
+		Doc doc = doc(e.getId(), e.getName(), e.getEmployeeId(), e.getEmail(), e.getDesignation(), e.getDepartment(), e.getCity());
+		AfterCommit.run(() -> gate.run(() -> {
+			lock.writeLock().lock();
+			try {
+				Doc old = docs.put(doc.id(), doc);
+				if (old != null) unindex(old);
+				index(doc);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}));
+	}
+
+	public void employeeDeleted(long id) {
+		AfterCommit.run(() -> gate.run(() -> {
+			lock.writeLock().lock();
+			try {
+				Doc old = docs.remove(id);
+				if (old != null) unindex(old);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}));
+	}
+
+	/** Bulk inserts do not report their ids; the next query reloads the index. */
+	public void employeesImported() {
+		AfterCommit.run(gate::reset);
+	}
+
+	private List<Hit> rank(List<String> terms, int limit) {
+		String driver = terms.get(0);
+		List<String> others = terms.subList(1, terms.size());
+		int othersMax = 0;
+		for (String term : others) {
+			int best = bestPossible(term);
+			if (best == 0) return List.of();
+			othersMax += best;
+		}
+
+		// Worst result at the head: lowest score, then latest found.
+		PriorityQueue<Ranked> heap = new PriorityQueue<>(limit + 1,
+				Comparator.comparingInt(Ranked::score).thenComparing(Comparator.comparingLong(Ranked::seq).reversed()));
+		long seq = 0;
+		// A prefix can hit several tokens of one field, e.g. "j" for "John Jones".
+		Set<Long> seen = new HashSet<>();
+
+		scan:
+		for (int[] tier : TIERS) {
+			int field = tier[0];
+			boolean exact = tier[1] == 1;
+			int tierScore = WEIGHTS[field] * (exact ? 2 : 1);
+			int bound = tierScore + othersMax;
+			Iterable<long[]> lists = exact
+					? (postings[field].containsKey(driver) ? List.of(postings[field].get(driver)) : List.of())
+					: postings[field].subMap(driver, false, driver + Character.MAX_VALUE, false).values();
+			for (long[] ids : lists) {
+				for (long id : ids) {
+					// Later candidates score at most the bound and lose ties, so a full heap at the bound is final.
+					if (heap.size() == limit && heap.peek().score() >= bound) break scan;
+					if (!seen.add(id)) continue;
+					Doc doc = docs.get(id);
+					int score = score(doc, driver);
+					if (score != tierScore) continue; // found in its best tier already
+					for (String term : others) {
+						int s = score(doc, term);
+						if (s == 0) {
+							score = 0;
+							break;
+						}
+						score += s;
+					}
+					if (score == 0) continue;
+					heap.add(new Ranked(doc, score, seq++));
+					if (heap.size() > limit) heap.poll();
+				}
+			}
+		}
+
+		List<Ranked> ranked = new ArrayList<>(heap);
+		ranked.sort(Comparator.comparingInt(Ranked::score).reversed().thenComparingLong(Ranked::seq));
+		return ranked.stream().map(r -> r.doc().hit(r.score())).toList();
+	}
+
+	/** Highest score the term can reach on any employee, 0 when nothing matches it. */
+	private int bestPossible(String term) {
+		int best = 0;
+		for (int f = 0; f < postings.length; f++) {
+			if (postings[f].containsKey(term)) {
+				best = Math.max(best, WEIGHTS[f] * 2);
+			} else {
+				String next = postings[f].higherKey(term);
+				if (next != null && next.startsWith(term)) best = Math.max(best, WEIGHTS[f]);
+			}
+		}
+		return best;
+	}
+
+	private static int score(Doc doc, String term) {
+		int best = 0;
+		for (int f = 0; f < doc.tokens().length; f++) {
+			for (String token : doc.tokens()[f]) {
+				if (token.equals(term)) best = Math.max(best, WEIGHTS[f] * 2);
+				else if (token.startsWith(term)) best = Math.max(best, WEIGHTS[f]);
+			}
+		}
+		return best;
+	}
+
+	private void ensureSeeded() {
+		// An import committing during the load discards it; load again.
+		while (!gate.isReady()) {
+			synchronized (this) {
+				if (gate.isReady()) return;
+				long token = gate.begin();
+				try {
+					load(token, projections.findAll(FIELDS, null, 0));
+				} catch (RuntimeException e) {
+					gate.abort(token);
+					throw e;
+				}
+			}
+		}
+	}
+
+	/** Replaces the index contents with the given rows, keyed by the attribute names in FIELDS. */
+	void load(List<Map<String, Object>> rows) {
+		load(gate.begin(), rows);
+	}
+
+	private void load(long generation, List<Map<String, Object>> rows) {
+		List<Map<String, List<Long>>> building = new ArrayList<>();
+		for (int f = 0; f < WEIGHTS.length; f++) building.add(new HashMap<>());
+		Map<Long, Doc> loaded = new HashMap<>(rows.size() * 2);
+		for (Map<String, Object> row : rows) {
+			Doc doc = doc((Long) row.get("id"), (String) row.get("name"), (String) row.get("employeeId"),
+					(String) row.get("email"), (String) row.get("designation"), (String) row.get("department"),
+					(String) row.get("city"));
+			loaded.put(doc.id(), doc);
+			for (int f = 0; f < WEIGHTS.length; f++) {
+				for (String token : doc.tokens()[f]) building.get(f).computeIfAbsent(token, t -> new ArrayList<>(2)).add(doc.id());
+			}
+		}
+
+		gate.complete(generation, () -> {
+			lock.writeLock().lock();
+			try {
+				docs.clear();
+				docs.putAll(loaded);
+				for (int f = 0; f < WEIGHTS.length; f++) {
+					postings[f].clear();
+					for (Map.Entry<String, List<Long>> e : building.get(f).entrySet()) {
+						long[] ids = e.getValue().stream().mapToLong(Long::longValue).toArray();
+						Arrays.sort(ids);
+						postings[f].put(e.getKey(), ids);
+					}
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	private void index(Doc doc) {
+		for (int f = 0; f < WEIGHTS.length; f++) {
+			for (String token : doc.tokens()[f]) {
+				long[] ids = postings[f].get(token);
+				if (ids == null) {
+					postings[f].put(token, new long[] {doc.id()});
+					continue;
+				}
+				int at = Arrays.binarySearch(ids, doc.id());
+				if (at >= 0) continue;
+				int insert = -at - 1;
+				long[] grown = new long[ids.length + 1];
+				System.arraycopy(ids, 0, grown, 0, insert);
+				grown[insert] = doc.id();
+				System.arraycopy(ids, insert, grown, insert + 1, ids.length - insert);
+				postings[f].put(token, grown);
+			}
+		}
+	}
+
+	private void unindex(Doc doc) {
+		for (int f = 0; f < WEIGHTS.length; f++) {
+			for (String token : doc.tokens()[f]) {
+				long[] ids = postings[f].get(token);
+				if (ids == null) continue;
+				int at = Arrays.binarySearch(ids, doc.id());
+				if (at < 0) continue;
+				if (ids.length == 1) {
+					postings[f].remove(token);
+					continue;
+				}
+				long[] shrunk = new long[ids.length - 1];
+				System.arraycopy(ids, 0, shrunk, 0, at);
+				System.arraycopy(ids, at + 1, shrunk, at, ids.length - at - 1);
+				postings[f].put(token, shrunk);
+			}
+		}
+	}
+
+	private static Doc doc(long id, String... values) {
+		String[][] tokens = new String[values.length][];
+		for (int f = 0; f < values.length; f++) tokens[f] = tokens(values[f]).toArray(String[]::new);
+		return new Doc(id, values, tokens);
+	}
+
+	private static List<String> tokens(String text) {
+		List<String> tokens = new ArrayList<>(4);
+		if (text == null) return tokens;
+		String lower = text.toLowerCase(Locale.ROOT);
+		int start = -1;
+		for (int i = 0; i <= lower.length(); i++) {
+			boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+			if (word && start < 0) start = i;
+			if (!word && start >= 0) {
+				String token = lower.substring(start, i);
+				if (!tokens.contains(token)) tokens.add(token);
+				start = -1;
+			}
+		}
+		return tokens;
+	}
+
+	private static List<int[]> buildTiers() {
+		List<int[]> tiers = new ArrayList<>();
+		for (int f = 0; f < WEIGHTS.length; f++) {
+			tiers.add(new int[] {f, 1});
+			tiers.add(new int[] {f, 0});
+		}
+		tiers.sort(Comparator.comparingInt((int[] t) -> WEIGHTS[t[0]] * (t[1] == 1 ? 2 : 1)).reversed());
+		return tiers;
+	}
+}
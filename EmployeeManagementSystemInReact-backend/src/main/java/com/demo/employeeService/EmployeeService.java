@@ -13,54 +13,112 @@ public class EmployeeService {
 	private EmployeeRepository repo;
 
 	@Autowired
-	private com.demo.employeeRepository.UserRepository userRepo;
+	private DashboardStatsStore stats;
+
+	@Autowired
+	private IdentityResolver identity;
+
+	@Autowired
+	private ApprovedLeaveIndex leaveIndex;
+
+	@Autowired
+	private ActivityFeed feed;
+
+	@Autowired
+	private CollectionVersions versions;
+
+	@Autowired
+	private com.demo.employeeRepository.EmployeeProjectionRepository projections;
+
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
 
 	public Employee postEmployee(Employee employee) {
-		return repo.save(employee);	
+		Employee saved = repo.save(employee);
+		identity.employeeCreated(saved.getId());
+		stats.employeeCreated(saved.getStatus());
+		versions.bump(CollectionVersions.EMPLOYEES);
+		searchIndex.employeeSaved(saved);
+		feed.append(saved.getId(), true, "HIRE", "New hire: " + saved.getName() + " joined " + saved.getDepartment(), "Recent");
+		return saved;
 	}
 	
 	public List<Employee> getAllEmployee(){
 		 return repo.findAll();
 	}
+
+	/** Every employee with only the given attributes, ordered by id. */
+	public List<java.util.Map<String, Object>> getAllEmployee(List<String> fields) {
+		return projections.findAll(fields, null, 0);
+	}
+
+	public static final int DEFAULT_PAGE_SIZE = 50;
+	public static final int MAX_PAGE_SIZE = 200;
+
+	/**
+	 * Keyset page ordered by id: rows with id greater than {@code afterId} that match the filter.
+	 * Fetches one extra row to know whether another page follows.
+	 */
+	public com.demo.dto.CursorPage<Employee> getEmployeePage(Long afterId, Integer size, com.demo.dto.EmployeeFilter filter) {
+		int limit = clampPageSize(size);
+		org.springframework.data.jpa.domain.Specification<Employee> spec =
+				com.demo.employeeRepository.EmployeeSpecifications.idGreaterThan(afterId)
+						.and(com.demo.employeeRepository.EmployeeSpecifications.matching(filter));
+
+		List<Employee> rows = repo.findBy(spec, q -> q.sortBy(org.springframework.data.domain.Sort.by("id")).limit(limit + 1).all());
+		boolean hasMore = rows.size() > limit;
+		List<Employee> items = hasMore ? rows.subList(0, limit) : rows;
+		Long next = hasMore ? items.get(items.size() - 1).getId() : null;
+		return new com.demo.dto.CursorPage<>(items, next, hasMore);
+	}
+
+	/** Same keyset page as above, selecting only the given attributes; {@code fields} must contain id. */
+	public com.demo.dto.CursorPage<java.util.Map<String, Object>> getEmployeePage(Long afterId, Integer size,
+			com.demo.dto.EmployeeFilter filter, List<String> fields) {
+		int limit = clampPageSize(size);
+		org.springframework.data.jpa.domain.Specification<Employee> spec =
+				com.demo.employeeRepository.EmployeeSpecifications.idGreaterThan(afterId)
+						.and(com.demo.employeeRepository.EmployeeSpecifications.matching(filter));
+
+		List<java.util.Map<String, Object>> rows = projections.findAll(fields, spec, limit + 1);
+		boolean hasMore = rows.size() > limit;
+		List<java.util.Map<String, Object>> items = hasMore ? rows.subList(0, limit) : rows;
+		Long next = hasMore ? (Long) items.get(items.size() - 1).get("id") : null;
+		return new com.demo.dto.CursorPage<>(items, next, hasMore);
+	}
+
+	public static int clampPageSize(Integer size) {
+		if (size == null || size <= 0) return DEFAULT_PAGE_SIZE;
+		return Math.min(size, MAX_PAGE_SIZE);
+	}
 	
 	public void deleteEmployee(Long id) {
-		if(!repo.existsById(id)) {
+		Employee existing = repo.findById(id).orElse(null);
+		if(existing == null) {
 			throw new EntityNotFoundException("Employee with ID"+id+"not foud");
 		}
-		repo.deleteById(id);
+		repo.delete(existing);
+		identity.evictEmployee(existing.getId());
+		stats.employeeDeleted(existing.getStatus());
+		versions.bump(CollectionVersions.EMPLOYEES);
+		searchIndex.employeeDeleted(existing.getId());
 	}
 
-	private Employee resolveEmployee(Long id) {
-		// 1. Try finding by ID directly (works for existing Employee IDs)
-		Employee emp = repo.findById(id).orElse(null);
-		if (emp != null) return emp;
-
-		// 2. Try as a User ID (for fresh logins/sidebar links)
-		com.demo.entity.User user = userRepo.findById(id).orElse(null);
-		if (user != null) {
-			return repo.findByEmail(user.getEmail()).orElseGet(() -> {
-				// Auto-create missing profile
-				Employee newEmp = new Employee();
-				newEmp.setName(user.getUsername());
-				newEmp.setEmail(user.getEmail());
-				newEmp.setStatus("ACTIVE");
-				newEmp.setJoiningDate(java.time.LocalDate.now());
-				newEmp.setDepartment("General");
-				newEmp.setDesignation("Employee");
-				return repo.save(newEmp);
-			});
-		}
-		return null;
+	public Employee getEmployee(long id) {
+		return identity.resolve(id);
 	}
 
-	public Employee getEmployee(long id) {
-		return resolveEmployee(id);
+	/** One employee with only the given attributes, or null. */
+	public java.util.Map<String, Object> getEmployee(long id, List<String> fields) {
+		Long employeeId = identity.resolveId(id);
+		return employeeId != null ? projections.findById(fields, employeeId) : null;
 	}
 
   public Employee updateEmployee(Employee employee,Long id ) {
-	Employee existingEmployee = resolveEmployee(id);
+	Employee existingEmployee = identity.resolve(id);
 	 
 	if(existingEmployee != null) {
+		String oldStatus = existingEmployee.getStatus();
 		existingEmployee.setName(employee.getName());
 		existingEmployee.setEmail(employee.getEmail());
 		existingEmployee.setPhone(employee.getPhone());
@@ -90,7 +148,13 @@ public class EmployeeService {
 		existingEmployee.setTrainingProgram(employee.getTrainingProgram());
 		existingEmployee.setFitnessMembership(employee.getFitnessMembership());
 		
-		return repo.save(existingEmployee);
+		Employee saved = repo.save(existingEmployee);
+		stats.employeeUpdated(oldStatus, saved.getStatus());
+		identity.evictEmployee(saved.getId());
+		leaveIndex.employeeUpdated(saved);
+		versions.bump(CollectionVersions.EMPLOYEES);
+		searchIndex.employeeSaved(saved);
+		return saved;
 	}
 	
 		return null;
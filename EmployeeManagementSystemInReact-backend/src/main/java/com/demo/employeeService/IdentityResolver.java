@@ -0,0 +1,190 @@
+package com.demo.employeeService;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.UserRepository;
+import com.demo.entity.Employee;
+import com.demo.entity.User;
+import com.demo.util.LruCache;
+
+/**
+ * Maps the ids the frontend sends (an employee id, or a user id for fresh
+ * logins) and principal emails to employee ids. Resolved ids are kept in
+ * bounded caches, so the hot attendance and leave paths skip the lookup chain.
+ *
+ * A user without an employee profile gets one created on first use. Creation is
+ * single-flight per email inside this node and backed by the unique email
+ * constraint across nodes: a losing insert re-reads the winner's row.
+ */
+@Component
+public class IdentityResolver {
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private DashboardStatsStore stats;
+
+	@Autowired
+	private CollectionVersions versions;
+
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
+
+	private final TransactionTemplate newTx;
+	private final LruCache<Long, Long> idsByIdentity;
+	private final LruCache<String, Long> idsByEmail;
+	private final ConcurrentHashMap<String, CompletableFuture<Long>> creating = new ConcurrentHashMap<>();
+
+	public IdentityResolver(PlatformTransactionManager txManager,
+			@Value("${app.identity.cache-size:10000}") int cacheSize) {
+		this.newTx = new TransactionTemplate(txManager);
+		this.newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.idsByIdentity = new LruCache<>(cacheSize);
+		this.idsByEmail = new LruCache<>(cacheSize);
+	}
+
+	/**
+	 * Employee id for an employee id or user id, creating the profile of a user
+	 * that has none. Employee ids take precedence. Null when neither exists.
+	 */
+	public Long resolveId(Long id) {
+		if (id == null) return null;
+		Long cached = idsByIdentity.get(id);
+		if (cached != null) return cached;
+
+		Long employeeId;
+		if (employeeRepo.existsById(id)) {
+			employeeId = id;
+		} else {
+			User user = userRepo.findById(id).orElse(null);
+			if (user == null) return null;
+			employeeId = profileFor(user);
+		}
+		idsByIdentity.put(id, employeeId);
+		return employeeId;
+	}
+
+	/** Fully loaded employee for an employee id or user id, or null. */
+	public Employee resolve(Long id) {
+		if (id == null) return null;
+		Long cached = idsByIdentity.get(id);
+		if (cached == null) {
+			// Employee ids are the common case; load the row while checking for it.
+			Employee emp = employeeRepo.findById(id).orElse(null);
+			if (emp != null) {
+				idsByIdentity.put(id, emp.getId());
+				return emp;
+			}
+			cached = resolveId(id);
+			if (cached == null) return null;
+		}
+		return employeeRepo.findById(cached).orElse(null);
+	}
+
+	/** Like {@link #resolve} but fails for unknown ids. */
+	public Employee require(Long id) {
+		Employee employee = resolve(id);
+		if (employee == null) throw new RuntimeException("Identity not found for ID: " + id);
+		return employee;
+	}
+
+	/** Employee id for an email, without creating a profile. Null when none exists. */
+	public Long employeeIdForEmail(String email) {
+		if (email == null) return null;
+		Long cached = idsByEmail.get(email);
+		if (cached != null) return cached;
+
+		Employee emp = employeeRepo.findByEmail(email).orElse(null);
+		if (emp == null) return null;
+		idsByEmail.put(email, emp.getId());
+		return emp.getId();
+	}
+
+	/** Employee id of the user's profile, creating it when missing. */
+	public Long profileFor(User user) {
+		Long existing = employeeIdForEmail(user.getEmail());
+		if (existing != null) return existing;
+
+		String key = user.getEmail().toLowerCase();
+		CompletableFuture<Long> mine = new CompletableFuture<>();
+		CompletableFuture<Long> running = creating.putIfAbsent(key, mine);
+		if (running != null) {
+			try {
+				return running.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException re ? re : e;
+			}
+		}
+
+		try {
+			Long id = createProfile(user);
+			idsByEmail.put(user.getEmail(), id);
+			mine.complete(id);
+			return id;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			creating.remove(key, mine);
+		}
+	}
+
+	private Long createProfile(User user) {
+		try {
+			return newTx.execute(status -> employeeRepo.findByEmail(user.getEmail())
+					.map(Employee::getId)
+					.orElseGet(() -> {
+						Employee newEmp = new Employee();
+						newEmp.setName(user.getUsername());
+						newEmp.setEmail(user.getEmail());
+						newEmp.setStatus("ACTIVE");
+						newEmp.setJoiningDate(LocalDate.now());
+						newEmp.setDepartment("General");
+						newEmp.setDesignation("Employee");
+						Employee saved = employeeRepo.saveAndFlush(newEmp);
+						stats.employeeCreated(saved.getStatus());
+						versions.bump(CollectionVersions.EMPLOYEES);
+						searchIndex.employeeSaved(saved);
+						return saved.getId();
+					}));
+		} catch (DataIntegrityViolationException e) {
+			// Another node created the profile first.
+			return employeeRepo.findByEmail(user.getEmail())
+					.map(Employee::getId)
+					.orElseThrow(() -> e);
+		}
+	}
+
+	/** A new employee row may shadow a cached user id with the same value. */
+	public void employeeCreated(long employeeId) {
+		idsByIdentity.remove(employeeId);
+	}
+
+	/** Bulk inserts do not report their ids, so drop all id mappings. */
+	public void employeesCreated() {
+		idsByIdentity.clear();
+	}
+
+	/** Drops every cached mapping to this employee, after an update or delete. */
+	public void evictEmployee(long employeeId) {
+		idsByIdentity.removeIf(id -> id == employeeId);
+		idsByIdentity.remove(employeeId);
+		idsByEmail.removeIf(id -> id == employeeId);
+	}
+}
@@ -0,0 +1,157 @@
+package com.demo.employeeService;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.constant.LeaveType;
+import com.demo.employeeRepository.LeaveBalanceJdbcRepository;
+import com.demo.employeeRepository.LeaveBalanceJdbcRepository.ApprovedLeave;
+import com.demo.employeeRepository.LeaveBalanceJdbcRepository.Grant;
+import com.demo.employeeRepository.LeaveBalanceJdbcRepository.UsedDelta;
+import com.demo.employeeRepository.LeaveBalanceRepository;
+import com.demo.entity.LeaveBalance;
+import com.demo.entity.LeaveRequest;
+
+/**
+ * Per-employee, per-year, per-type leave ledger. Approving a leave adds its
+ * calendar days to the matching rows in the caller's transaction, and moving a
+ * leave out of APPROVED gives them back, so a balance read is an index lookup
+ * on (employee, year). The yearly accrual walks the workforce in id-ordered
+ * chunks and grants each chunk's entitlements as one JDBC batch. Leaves whose
+ * type is not a {@link LeaveType} (legacy rows) are not counted.
+ */
+@Service
+public class LeaveBalanceService {
+
+	private static final Logger log = LoggerFactory.getLogger(LeaveBalanceService.class);
+	private static final String APPROVED = "APPROVED";
+
+	@Autowired
+	private LeaveBalanceRepository balanceRepo;
+
+	@Autowired
+	private LeaveBalanceJdbcRepository jdbcRepo;
+
+	@Autowired
+	private TransactionTemplate tx;
+
+	@Value("${app.leaves.accrual.chunk-size:1000}")
+	private int chunkSize;
+
+	/** Ledger changes for a status change of one leave; empty when approval did not change. */
+	public List<UsedDelta> deltasFor(LeaveRequest leave, String oldStatus, String newStatus) {
+		boolean was = APPROVED.equals(oldStatus);
+		boolean is = APPROVED.equals(newStatus);
+		if (was == is || leave.getEmployee() == null) return List.of();
+		return split(leave.getEmployee().getId(), leave.getType(), leave.getStartDate(), leave.getEndDate(), is ? 1 : -1);
+	}
+
+	/** Days of one leave per year, signed; empty for dates or a type the ledger cannot count. */
+	private static List<UsedDelta> split(long employeeId, String type, LocalDate start, LocalDate end, double sign) {
+		LeaveType known = LeaveType.parse(type);
+		if (known == null || start == null || end == null || end.isBefore(start)) return List.of();
+
+		List<UsedDelta> deltas = new ArrayList<>();
+		// Leaves across New Year count against each year separately.
+		LocalDate from = start;
+		while (!from.isAfter(end)) {
+			LocalDate yearEnd = LocalDate.of(from.getYear(), 12, 31);
+			LocalDate to = end.isBefore(yearEnd) ? end : yearEnd;
+			long days = ChronoUnit.DAYS.between(from, to) + 1;
+			deltas.add(new UsedDelta(employeeId, from.getYear(), known.name(), known.getAnnualDays(), sign * days));
+			from = to.plusDays(1);
+		}
+		return deltas;
+	}
+
+	/** Writes ledger changes; call inside the transaction that saves the leaves. */
+	public void apply(List<UsedDelta> deltas) {
+		if (!deltas.isEmpty()) jdbcRepo.addUsed(deltas);
+	}
+
+	/** One row per leave type for the year; types without a ledger row show the full entitlement. */
+	public List<LeaveBalance> balances(long employeeId, int year) {
+		Map<String, LeaveBalance> byType = new HashMap<>();
+		for (LeaveBalance b : balanceRepo.findByEmployeeIdAndYear(employeeId, year)) byType.put(b.getType(), b);
+
+		List<LeaveBalance> result = new ArrayList<>();
+		for (LeaveType t : LeaveType.values()) {
+			LeaveBalance b = byType.remove(t.name());
+			if (b == null) {
+				b = new LeaveBalance();
+				b.setEmployeeId(employeeId);
+				b.setYear(year);
+				b.setType(t.name());
+				b.setEntitled(t.getAnnualDays());
+			}
+			result.add(b);
+		}
+		result.addAll(byType.values());
+		return result;
+	}
+
+	public double remaining(long employeeId, int year) {
+		return balances(employeeId, year).stream().mapToDouble(LeaveBalance::getRemaining).sum();
+	}
+
+	/** Grants every employee the year's entitlement per type. Safe to re-run. */
+	public long accrue(int year) {
+		long processed = 0;
+		long after = 0;
+		List<Long> ids;
+		while (!(ids = jdbcRepo.employeeIdsAfter(after, chunkSize)).isEmpty()) {
+			List<Grant> grants = new ArrayList<>(ids.size() * LeaveType.values().length);
+			for (Long id : ids) {
+				for (LeaveType t : LeaveType.values()) grants.add(new Grant(id, year, t.name(), t.getAnnualDays()));
+			}
+			tx.executeWithoutResult(status -> jdbcRepo.grant(grants));
+			processed += ids.size();
+			after = ids.get(ids.size() - 1);
+		}
+		log.info("Accrued {} leave entitlements for {} employees", year, processed);
+		return processed;
+	}
+
+	/**
+	 * Recomputes days used from every APPROVED leave, replacing what the ledger
+	 * holds. Run once after deploying the ledger so approvals made before it are
+	 * counted; safe to re-run. The leave rows stay locked from the read to the
+	 * commit, so approvals made meanwhile wait and then apply on top of the
+	 * rebuilt rows. Returns the number of approved leaves counted.
+	 */
+	public long rebuildUsed() {
+		return tx.execute(status -> {
+			List<ApprovedLeave> approved = jdbcRepo.lockApprovedLeaves();
+			Map<String, UsedDelta> totals = new LinkedHashMap<>();
+			for (ApprovedLeave l : approved) {
+				for (UsedDelta d : split(l.employeeId(), l.type(), l.startDate(), l.endDate(), 1)) {
+					totals.merge(d.employeeId() + "/" + d.year() + "/" + d.type(), d,
+							(a, b) -> new UsedDelta(a.employeeId(), a.year(), a.type(), a.entitled(), a.days() + b.days()));
+				}
+			}
+			jdbcRepo.resetUsed();
+			apply(new ArrayList<>(totals.values()));
+			log.info("Rebuilt leave ledger from {} approved leaves ({} rows)", approved.size(), totals.size());
+			return (long) approved.size();
+		});
+	}
+
+	@Scheduled(cron = "${app.leaves.accrual.cron:0 0 1 1 1 *}")
+	public void accrueCurrentYear() {
+		accrue(LocalDate.now().getYear());
+	}
+
+}
@@ -6,6 +6,8 @@ import java.util.List;
 public interface LeaveService {
     LeaveRequest applyLeave(LeaveRequest request, Long employeeId);
     LeaveRequest updateLeaveStatus(Long leaveId, String status);
+    LeaveRequest updateLeaveStatus(Long leaveId, String status, Long expectedVersion);
+    List<com.demo.dto.LeaveStatusResult> updateLeaveStatuses(List<com.demo.dto.LeaveStatusChange> changes);
     List<LeaveRequest> getEmployeeLeaves(Long employeeId);
     List<LeaveRequest> getAllPendingLeaves();
     List<LeaveRequest> getApprovedLeavesOnDate(java.time.LocalDate date);
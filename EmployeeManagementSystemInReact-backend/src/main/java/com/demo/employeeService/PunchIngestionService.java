@@ -0,0 +1,198 @@
+package com.demo.employeeService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.demo.dto.PunchRecord;
+import com.demo.dto.PunchReport;
+import com.demo.employeeRepository.AttendanceJdbcRepository;
+import com.demo.employeeRepository.AttendanceJdbcRepository.RollupDelta;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+import com.demo.util.AfterCommit;
+
+/**
+ * Batch ingestion of device-timestamped punches from badge readers. Punches are
+ * folded into one attendance row per employee and day: the earliest IN is the
+ * check-in and the latest OUT the check-out. Merging with what is already
+ * stored the same way makes replays of a buffer idempotent. All inserts and
+ * updates of a batch are written as JDBC batches in one transaction.
+ */
+@Service
+public class PunchIngestionService {
+
+	@Autowired
+	private AttendanceJdbcRepository jdbcRepo;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private DashboardStatsStore stats;
+
+	@Autowired
+	private AttendanceRollupService rollups;
+
+	@Autowired
+	private DashboardEventHub events;
+
+	@Autowired
+	private TransactionTemplate tx;
+
+	@Value("${app.attendance.punch-batch-max:5000}")
+	private int maxBatch;
+
+	private record Key(long employeeId, LocalDate date) {}
+
+	private static final class Day {
+		LocalTime in;
+		LocalTime out;
+	}
+
+	public PunchReport ingest(List<PunchRecord> punches) {
+		if (punches.size() > maxBatch) {
+			throw new IllegalArgumentException("At most " + maxBatch + " punches per batch");
+		}
+		PunchReport report = new PunchReport();
+		report.setReceived(punches.size());
+
+		// Badge ids are employee ids; one lookup for the batch, and no profile is created for an unknown id.
+		Set<Long> ids = punches.stream().filter(Objects::nonNull).map(PunchRecord::employeeId).filter(Objects::nonNull).collect(Collectors.toSet());
+		Set<Long> known = ids.isEmpty() ? Set.of() : employeeRepo.findExistingIds(ids);
+
+		Map<Key, Day> days = new LinkedHashMap<>();
+		for (int i = 0; i < punches.size(); i++) {
+			PunchRecord p = punches.get(i);
+			String error = validate(p);
+			if (error == null && !known.contains(p.employeeId())) error = "Unknown employee " + p.employeeId();
+			if (error != null) {
+				report.setRejected(report.getRejected() + 1);
+				report.getErrors().add(new PunchReport.PunchError(i, error));
+				continue;
+			}
+
+			Day day = days.computeIfAbsent(new Key(p.employeeId(), p.timestamp().toLocalDate()), k -> new Day());
+			LocalTime time = p.timestamp().toLocalTime();
+			if ("IN".equalsIgnoreCase(p.type())) day.in = earliest(day.in, time);
+			else day.out = latest(day.out, time);
+		}
+		if (days.isEmpty()) return report;
+
+		// A concurrent check-in can claim an (employee, date) between our read and
+		// insert; the whole batch rolls back on the constraint, so merge again.
+		try {
+			write(days, report);
+		} catch (DataIntegrityViolationException e) {
+			write(days, report);
+		}
+		return report;
+	}
+
+	private void write(Map<Key, Day> days, PunchReport report) {
+		tx.executeWithoutResult(status -> {
+			Set<Long> employeeIds = days.keySet().stream().map(Key::employeeId).collect(Collectors.toSet());
+			LocalDate from = days.keySet().stream().map(Key::date).min(LocalDate::compareTo).get();
+			LocalDate to = days.keySet().stream().map(Key::date).max(LocalDate::compareTo).get();
+			Map<Key, Attendance> existing = new HashMap<>();
+			for (Attendance a : jdbcRepo.findBetween(employeeIds, from, to)) {
+				existing.put(new Key(a.getEmployee().getId(), a.getDate()), a);
+			}
+
+			List<Attendance> inserts = new ArrayList<>();
+			List<Attendance> updates = new ArrayList<>();
+			List<RollupDelta> deltas = new ArrayList<>();
+			int unchanged = 0;
+			for (Map.Entry<Key, Day> entry : days.entrySet()) {
+				Key key = entry.getKey();
+				Day day = entry.getValue();
+				Attendance row = existing.get(key);
+				if (row == null) {
+					Employee employee = new Employee();
+					employee.setId(key.employeeId());
+					row = new Attendance();
+					row.setEmployee(employee);
+					row.setDate(key.date());
+					row.setCheckIn(day.in);
+					row.setCheckOut(day.out);
+					row.setWorkingHours(workingHours(day.in, day.out));
+					inserts.add(row);
+					deltas.add(delta(row, 1, row.getWorkingHours()));
+					continue;
+				}
+
+				LocalTime in = earliest(row.getCheckIn(), day.in);
+				LocalTime out = latest(row.getCheckOut(), day.out);
+				if (Objects.equals(in, row.getCheckIn()) && Objects.equals(out, row.getCheckOut())) {
+					unchanged++;
+					continue;
+				}
+				Double oldHours = row.getWorkingHours();
+				row.setCheckIn(in);
+				row.setCheckOut(out);
+				row.setWorkingHours(workingHours(in, out));
+				updates.add(row);
+				double newHours = row.getWorkingHours() != null ? row.getWorkingHours() : 0.0;
+				deltas.add(delta(row, 0, newHours - (oldHours != null ? oldHours : 0.0)));
+			}
+
+			if (!inserts.isEmpty()) jdbcRepo.batchInsert(inserts);
+			if (!updates.isEmpty()) jdbcRepo.batchUpdate(updates);
+			rollups.record(deltas);
+			for (Attendance a : inserts) {
+				if (a.getCheckIn() != null) stats.checkedIn(a.getDate());
+			}
+			Set<Long> touched = deltas.stream().map(RollupDelta::employeeId).collect(Collectors.toSet());
+			AfterCommit.run(() -> touched.forEach(events::employeeChanged));
+
+			report.setInserted(inserts.size());
+			report.setUpdated(updates.size());
+			report.setUnchanged(unchanged);
+		});
+	}
+
+	private static RollupDelta delta(Attendance row, int days, Double hours) {
+		return new RollupDelta(row.getEmployee().getId(), row.getDate().getYear(), row.getDate().getMonthValue(),
+				days, hours != null ? hours : 0.0);
+	}
+
+	private static String validate(PunchRecord p) {
+		if (p == null) return "Empty punch";
+		if (p.employeeId() == null) return "employeeId is required";
+		if (p.timestamp() == null) return "timestamp is required";
+		if (!"IN".equalsIgnoreCase(p.type()) && !"OUT".equalsIgnoreCase(p.type())) return "type must be IN or OUT";
+		return null;
+	}
+
+	static Double workingHours(LocalTime in, LocalTime out) {
+		if (in == null || out == null || out.isBefore(in)) return null;
+		return Duration.between(in, out).toMinutes() / 60.0;
+	}
+
+	private static LocalTime earliest(LocalTime a, LocalTime b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return a.isBefore(b) ? a : b;
+	}
+
+	private static LocalTime latest(LocalTime a, LocalTime b) {
+		if (a == null) return b;
+		if (b == null) return a;
+		return a.isAfter(b) ? a : b;
+	}
+}
@@ -1,7 +1,6 @@
 package com.demo.employeeService.ServiceImp;
 
 import com.demo.employeeRepository.AttendanceRepository;
-import com.demo.employeeRepository.EmployeeRepository;
 import com.demo.employeeService.AttendanceService;
 import com.demo.entity.Attendance;
 import com.demo.entity.Employee;
@@ -20,52 +19,79 @@ public class AttendanceServiceImpl implements AttendanceService {
     private AttendanceRepository attendanceRepo;
 
     @Autowired
-    private EmployeeRepository employeeRepo;
+    private com.demo.employeeRepository.AttendanceJdbcRepository attendanceJdbc;
 
     @Autowired
-    private com.demo.employeeRepository.UserRepository userRepo;
-
-    private Employee resolveEmployee(Long id) {
-        // 1. Try direct ID match (for legacy support or direct links)
-        Employee emp = employeeRepo.findById(id).orElse(null);
-        if (emp != null) return emp;
-
-        // 2. Map via User identity
-        com.demo.entity.User user = userRepo.findById(id)
-                .orElseThrow(() -> new RuntimeException("Identity not found for ID: " + id));
-
-        // 3. Find by email
-        return employeeRepo.findByEmail(user.getEmail()).orElseGet(() -> {
-            // AUTO-REPAIR: If user exists but no employee profile, create it now
-            Employee newEmp = new Employee();
-            newEmp.setName(user.getUsername());
-            newEmp.setEmail(user.getEmail());
-            newEmp.setStatus("ACTIVE");
-            newEmp.setJoiningDate(LocalDate.now());
-            newEmp.setDepartment("General");
-            newEmp.setDesignation("Employee");
-            return employeeRepo.save(newEmp);
-        });
-    }
+    private com.demo.employeeService.IdentityResolver identity;
+
+    @Autowired
+    private com.demo.employeeService.DashboardStatsStore stats;
+
+    @Autowired
+    private com.demo.employeeService.CheckInCoalescer coalescer;
+
+    @Autowired
+    private org.springframework.transaction.support.TransactionTemplate tx;
+
+    @Autowired
+    private com.demo.employeeService.AttendanceRollupService rollups;
 
+    @Autowired
+    private com.demo.employeeService.ActivityFeed feed;
+
+    @Autowired
+    private com.demo.employeeService.DashboardEventHub events;
+
+    /**
+     * Without coalescing, the attendance row, its rollup day and the activity event
+     * commit together. With it, the batch writer commits the row and its rollup day,
+     * and the activity event follows in a second transaction once the batch is in.
+     * Not @Transactional: coalesced callers wait for the batch writer and must not
+     * hold a pooled connection meanwhile.
+     */
     @Override
     public Attendance checkIn(Long id) {
-        Employee employee = resolveEmployee(id);
-        
-        if (attendanceRepo.findByEmployeeAndDate(employee, LocalDate.now()).isPresent()) {
-            throw new RuntimeException("Already checked in for today");
+        Employee employee = identity.require(id);
+        LocalDate today = LocalDate.now();
+
+        // The unique (employee, date) constraint decides; no read before the write.
+        if (coalescer.isEnabled()) {
+            Attendance saved;
+            try {
+                saved = coalescer.submit(employee, today, LocalTime.now()).join();
+            } catch (java.util.concurrent.CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+            tx.executeWithoutResult(status -> checkedIn(employee, saved));
+            return saved;
         }
 
-        Attendance attendance = new Attendance();
-        attendance.setEmployee(employee);
-        attendance.setDate(LocalDate.now());
-        attendance.setCheckIn(LocalTime.now());
-        return attendanceRepo.save(attendance);
+        return tx.execute(status -> {
+            Attendance attendance = new Attendance();
+            attendance.setEmployee(employee);
+            attendance.setDate(today);
+            attendance.setCheckIn(LocalTime.now());
+            try {
+                // Plain JDBC: a repeated click is an expected outcome, not a Hibernate error log.
+                attendanceJdbc.insert(attendance);
+            } catch (org.springframework.dao.DuplicateKeyException e) {
+                throw new RuntimeException("Already checked in for today");
+            }
+            rollups.dayRecorded(employee.getId(), attendance.getDate(), null);
+            checkedIn(employee, attendance);
+            return attendance;
+        });
+    }
+
+    private void checkedIn(Employee employee, Attendance saved) {
+        stats.checkedIn(saved.getDate());
+        feed.append(employee.getId(), false, "CLOCK", "Checked in at " + saved.getCheckIn(), saved.getDate().toString());
     }
 
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public Attendance checkOut(Long id) {
-        Employee employee = resolveEmployee(id);
+        Employee employee = identity.require(id);
         Attendance attendance = attendanceRepo.findByEmployeeAndDate(employee, LocalDate.now())
                 .orElseThrow(() -> new RuntimeException("No check-in record found for today"));
         
@@ -76,14 +102,18 @@ public class AttendanceServiceImpl implements AttendanceService {
         attendance.setCheckOut(LocalTime.now());
         Duration duration = Duration.between(attendance.getCheckIn(), attendance.getCheckOut());
         double hours = duration.toMinutes() / 60.0;
+        Double oldHours = attendance.getWorkingHours();
         attendance.setWorkingHours(hours);
         
-        return attendanceRepo.save(attendance);
+        Attendance saved = attendanceRepo.save(attendance);
+        rollups.hoursChanged(employee.getId(), saved.getDate(), oldHours, hours);
+        com.demo.util.AfterCommit.run(() -> events.employeeChanged(employee.getId()));
+        return saved;
     }
 
     @Override
     public List<Attendance> getEmployeeAttendance(Long id) {
-        Employee employee = resolveEmployee(id);
+        Employee employee = identity.require(id);
         return attendanceRepo.findByEmployee(employee);
     }
 
@@ -1,5 +1,7 @@
 package com.demo.employeeService.ServiceImp;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -12,6 +14,8 @@ import com.demo.util.JwtTokenProvider;
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     @Autowired
     private UserRepository repo;
 
@@ -22,40 +26,27 @@ public class AuthServiceImpl implements AuthService {
     private JwtTokenProvider jwtProvider;
 
     @Autowired
-    private com.demo.employeeRepository.EmployeeRepository employeeRepo;
+    private com.demo.employeeService.TokenRevocationService revocations;
+
+    @Autowired
+    private com.demo.employeeService.IdentityResolver identity;
 
     @Override
     public String register(User user) {
         user.setPassword(encoder.encode(user.getPassword()));
         
         
-        String role = user.getRole();
-        if (role == null || role.isEmpty()) {
-            role = "ROLE_USER";
-        } else {
-            role = role.trim().toUpperCase();
-            if (!role.startsWith("ROLE_")) {
-                role = "ROLE_" + role;
-            }
-        }
-        user.setRole(role);
+        user.setRole(com.demo.constant.UserRole.normalize(user.getRole()));
         
         try {
             repo.save(user);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to register user {}", user.getEmail(), e);
             throw e;
         }
 
         // Also create a basic Employee profile for the new user
-        if (employeeRepo.findByEmail(user.getEmail()).isEmpty()) {
-            com.demo.entity.Employee emp = new com.demo.entity.Employee();
-            emp.setName(user.getUsername());
-            emp.setEmail(user.getEmail());
-            // Create active employee record
-            emp.setStatus("ACTIVE");            emp.setJoiningDate(java.time.LocalDate.now());
-            employeeRepo.save(emp);
-        }
+        identity.profileFor(user);
 
         return "User Registered successfully";
     }
@@ -73,7 +64,28 @@ public class AuthServiceImpl implements AuthService {
             return null;
         }
 
-        return jwtProvider.generateToken(email);
+        return jwtProvider.generateToken(email, com.demo.constant.UserRole.normalize(user.getRole()), user.getSecurityEpoch());
+    }
+
+    @Override
+    public void logout(String email) {
+        // Revokes by security epoch, so tokens issued before the epoch claim existed stay valid until they expire.
+        revocations.revokeAll(email);
+    }
+
+    @Override
+    public User changeRole(Long userId, String role) {
+        com.demo.constant.UserRole parsed = com.demo.constant.UserRole.parse(role);
+        if (parsed == null) {
+            throw new IllegalArgumentException("Unknown role: " + role);
+        }
+        User user = repo.findById(userId)
+                .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("User with ID " + userId + " not found"));
+        user.setRole(parsed.name());
+        repo.save(user);
+        // Tokens issued with the old role must not keep working until they expire.
+        revocations.revokeAll(user.getEmail());
+        return user;
     }
 
 }
@@ -27,15 +27,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("User Not Found with email: " + email);
         }
 
-        String role = user.getRole();
-        if (role == null || role.isEmpty()) {
-            role = "ROLE_USER";
-        } else {
-            role = role.trim().toUpperCase();
-            if (!role.startsWith("ROLE_")) {
-                role = "ROLE_" + role;
-            }
-        }
+        String role = com.demo.constant.UserRole.normalize(user.getRole());
 
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
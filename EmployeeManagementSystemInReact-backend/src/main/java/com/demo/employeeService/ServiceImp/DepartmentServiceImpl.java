@@ -1,6 +1,7 @@
 package com.demo.employeeService.ServiceImp;
 
 import com.demo.employeeRepository.DepartmentRepository;
+import com.demo.employeeService.CollectionVersions;
 import com.demo.employeeService.DepartmentService;
 import com.demo.entity.Department;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +15,14 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Autowired
     private DepartmentRepository departmentRepo;
 
+    @Autowired
+    private CollectionVersions versions;
+
     @Override
     public Department createDepartment(Department department) {
-        return departmentRepo.save(department);
+        Department saved = departmentRepo.save(department);
+        versions.bump(CollectionVersions.DEPARTMENTS);
+        return saved;
     }
 
     @Override
@@ -35,7 +41,9 @@ public class DepartmentServiceImpl implements DepartmentService {
         if (existing != null) {
             existing.setName(department.getName());
             existing.setDescription(department.getDescription());
-            return departmentRepo.save(existing);
+            Department saved = departmentRepo.save(existing);
+            versions.bump(CollectionVersions.DEPARTMENTS);
+            return saved;
         }
         return null;
     }
@@ -43,5 +51,6 @@ public class DepartmentServiceImpl implements DepartmentService {
     @Override
     public void deleteDepartment(Long id) {
         departmentRepo.deleteById(id);
+        versions.bump(CollectionVersions.DEPARTMENTS);
     }
 }
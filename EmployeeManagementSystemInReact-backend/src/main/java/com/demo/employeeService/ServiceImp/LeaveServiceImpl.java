@@ -1,6 +1,5 @@
 package com.demo.employeeService.ServiceImp;
 
-import com.demo.employeeRepository.EmployeeRepository;
 import com.demo.employeeRepository.LeaveRepository;
 import com.demo.employeeService.LeaveService;
 import com.demo.entity.Employee;
@@ -17,48 +16,143 @@ public class LeaveServiceImpl implements LeaveService {
     private LeaveRepository leaveRepo;
 
     @Autowired
-    private EmployeeRepository employeeRepo;
+    private com.demo.employeeService.IdentityResolver identity;
 
     @Autowired
-    private com.demo.employeeRepository.UserRepository userRepo;
-
-    private Employee resolveEmployee(Long id) {
-        Employee emp = employeeRepo.findById(id).orElse(null);
-        if (emp != null) return emp;
-
-        com.demo.entity.User user = userRepo.findById(id)
-                .orElseThrow(() -> new RuntimeException("Identity not found for ID: " + id));
-
-        return employeeRepo.findByEmail(user.getEmail()).orElseGet(() -> {
-            Employee newEmp = new Employee();
-            newEmp.setName(user.getUsername());
-            newEmp.setEmail(user.getEmail());
-            newEmp.setStatus("ACTIVE");
-            newEmp.setJoiningDate(java.time.LocalDate.now());
-            newEmp.setDepartment("General");
-            newEmp.setDesignation("Employee");
-            return employeeRepo.save(newEmp);
-        });
-    }
+    private com.demo.employeeService.DashboardStatsStore stats;
+
+    @Autowired
+    private com.demo.employeeService.ApprovedLeaveIndex leaveIndex;
+
+    @Autowired
+    private com.demo.employeeService.LeaveBalanceService balances;
+
+    @Autowired
+    private com.demo.employeeRepository.LeaveJdbcRepository leaveJdbc;
+
+    @Autowired
+    private com.demo.employeeService.ActivityFeed feed;
+
+    private static final java.util.Set<String> STATUSES = java.util.Set.of("PENDING", "APPROVED", "REJECTED");
 
     @Override
     public LeaveRequest applyLeave(LeaveRequest request, Long id) {
-        Employee employee = resolveEmployee(id);
+        if (com.demo.constant.LeaveType.parse(request.getType()) == null) {
+            throw new IllegalArgumentException("Unknown leave type: " + request.getType());
+        }
+        Employee employee = identity.require(id);
+        request.setId(null);
+        request.setVersion(null);
         request.setEmployee(employee);
         request.setStatus("PENDING");
-        return leaveRepo.save(request);
+        LeaveRequest saved = leaveRepo.save(request);
+        stats.leaveStatusChanged(null, saved.getStatus(), saved.getStartDate(), saved.getEndDate());
+        leaveIndex.leaveSaved(saved);
+        leaveActivity(saved);
+        return saved;
     }
 
     @Override
+    @org.springframework.transaction.annotation.Transactional
     public LeaveRequest updateLeaveStatus(Long leaveId, String status) {
+        return updateLeaveStatus(leaveId, status, null);
+    }
+
+    @Override
+    @org.springframework.transaction.annotation.Transactional
+    public LeaveRequest updateLeaveStatus(Long leaveId, String status, Long expectedVersion) {
+        // Same rules as the bulk path: the ledger, leave index and counters compare exact upper-case values.
+        String normalized = status != null ? status.trim().toUpperCase() : null;
+        if (normalized == null || !STATUSES.contains(normalized)) {
+            throw new IllegalArgumentException("status must be one of " + STATUSES);
+        }
         LeaveRequest request = leaveRepo.findById(leaveId).orElseThrow();
-        request.setStatus(status);
-        return leaveRepo.save(request);
+        if (expectedVersion != null && !expectedVersion.equals(request.getVersion())) {
+            throw new org.springframework.orm.ObjectOptimisticLockingFailureException(LeaveRequest.class, leaveId);
+        }
+        String oldStatus = request.getStatus();
+        request.setStatus(normalized);
+        LeaveRequest saved = leaveRepo.saveAndFlush(request);
+        balances.apply(statusChanged(saved, oldStatus));
+        return saved;
+    }
+
+    @Override
+    @org.springframework.transaction.annotation.Transactional
+    public List<com.demo.dto.LeaveStatusResult> updateLeaveStatuses(List<com.demo.dto.LeaveStatusChange> changes) {
+        java.util.Set<Long> ids = new java.util.HashSet<>();
+        for (com.demo.dto.LeaveStatusChange c : changes) {
+            if (c != null && c.id() != null) ids.add(c.id());
+        }
+        java.util.Map<Long, LeaveRequest> loaded = new java.util.HashMap<>();
+        for (LeaveRequest l : ids.isEmpty() ? List.<LeaveRequest>of() : leaveRepo.findByIdIn(ids)) loaded.put(l.getId(), l);
+
+        com.demo.dto.LeaveStatusResult[] results = new com.demo.dto.LeaveStatusResult[changes.size()];
+        List<Integer> pending = new java.util.ArrayList<>();
+        List<com.demo.employeeRepository.LeaveJdbcRepository.StatusWrite> writes = new java.util.ArrayList<>();
+        java.util.Set<Long> claimed = new java.util.HashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            com.demo.dto.LeaveStatusChange c = changes.get(i);
+            String status = c != null && c.status() != null ? c.status().trim().toUpperCase() : null;
+            LeaveRequest leave = c != null && c.id() != null ? loaded.get(c.id()) : null;
+            Long id = c != null ? c.id() : null;
+            if (status == null || !STATUSES.contains(status)) {
+                results[i] = new com.demo.dto.LeaveStatusResult(id, "INVALID", null, null, "status must be one of " + STATUSES);
+            } else if (leave == null) {
+                results[i] = new com.demo.dto.LeaveStatusResult(id, "NOT_FOUND", null, null, "Leave request not found");
+            } else if (!claimed.add(leave.getId())) {
+                results[i] = new com.demo.dto.LeaveStatusResult(id, "INVALID", leave.getStatus(), leave.getVersion(), "Duplicate item for this leave");
+            } else if (c.version() != null && !c.version().equals(leave.getVersion())) {
+                results[i] = new com.demo.dto.LeaveStatusResult(id, "CONFLICT", leave.getStatus(), leave.getVersion(), "Leave was modified by someone else");
+            } else if (status.equals(leave.getStatus())) {
+                results[i] = new com.demo.dto.LeaveStatusResult(id, "UNCHANGED", leave.getStatus(), leave.getVersion(), null);
+            } else {
+                pending.add(i);
+                writes.add(new com.demo.employeeRepository.LeaveJdbcRepository.StatusWrite(leave.getId(), status, leave.getVersion()));
+            }
+        }
+
+        int[] counts = writes.isEmpty() ? new int[0] : leaveJdbc.updateStatuses(writes);
+        List<com.demo.employeeRepository.LeaveBalanceJdbcRepository.UsedDelta> deltas = new java.util.ArrayList<>();
+        for (int n = 0; n < pending.size(); n++) {
+            int i = pending.get(n);
+            LeaveRequest leave = loaded.get(changes.get(i).id());
+            com.demo.employeeRepository.LeaveJdbcRepository.StatusWrite w = writes.get(n);
+            // A driver may report SUCCESS_NO_INFO (-2) for rewritten batches; only 0 means no row matched.
+            if (n < counts.length && counts[n] == 0) {
+                results[i] = new com.demo.dto.LeaveStatusResult(leave.getId(), "CONFLICT", leave.getStatus(), leave.getVersion(), "Leave was modified by someone else");
+                continue;
+            }
+            String oldStatus = leave.getStatus();
+            leave.setStatus(w.status());
+            leave.setVersion(w.expectedVersion() + 1);
+            deltas.addAll(statusChanged(leave, oldStatus));
+            results[i] = new com.demo.dto.LeaveStatusResult(leave.getId(), "UPDATED", leave.getStatus(), leave.getVersion(), null);
+        }
+        balances.apply(deltas);
+        return java.util.Arrays.asList(results);
+    }
+
+    /**
+     * Side effects shared by single and bulk transitions. Counters and the leave index
+     * update after commit; the returned ledger changes are for the caller to apply.
+     */
+    private List<com.demo.employeeRepository.LeaveBalanceJdbcRepository.UsedDelta> statusChanged(LeaveRequest saved, String oldStatus) {
+        stats.leaveStatusChanged(oldStatus, saved.getStatus(), saved.getStartDate(), saved.getEndDate());
+        leaveIndex.leaveSaved(saved);
+        leaveActivity(saved);
+        return balances.deltasFor(saved, oldStatus, saved.getStatus());
+    }
+
+    private void leaveActivity(LeaveRequest leave) {
+        Employee e = leave.getEmployee();
+        feed.append(e.getId(), true, "LEAVE", leave.getType() + " leave for " + e.getName() + " is " + leave.getStatus(),
+                String.valueOf(leave.getStartDate()));
     }
 
     @Override
     public List<LeaveRequest> getEmployeeLeaves(Long id) {
-        Employee employee = resolveEmployee(id);
+        Employee employee = identity.require(id);
         return leaveRepo.findByEmployee(employee);
     }
 
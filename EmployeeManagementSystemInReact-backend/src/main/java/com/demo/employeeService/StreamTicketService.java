@@ -0,0 +1,54 @@
+package com.demo.employeeService;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Short-lived, single-use tickets for opening the dashboard stream. EventSource
+ * cannot send an Authorization header, and a JWT in the query string ends up in
+ * access logs and browser history; a ticket there is useless once redeemed or
+ * after {@code app.dashboard.stream.ticket-ttl-ms}. Tickets are held in memory,
+ * so the stream must be opened on the instance that issued it.
+ */
+@Service
+public class StreamTicketService {
+
+	/** Who a ticket was issued to. */
+	public record Holder(String email, List<String> authorities) {}
+
+	private record Ticket(Holder holder, long expiresAt) {}
+
+	private final SecureRandom random = new SecureRandom();
+	private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+	@Value("${app.dashboard.stream.ticket-ttl-ms:30000}")
+	private long ttlMillis;
+
+	public String issue(String email, List<String> authorities) {
+		byte[] bytes = new byte[32];
+		random.nextBytes(bytes);
+		String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+		tickets.put(ticket, new Ticket(new Holder(email, List.copyOf(authorities)), System.currentTimeMillis() + ttlMillis));
+		return ticket;
+	}
+
+	/** The ticket's holder, or null when it is unknown, expired or already used. */
+	public Holder redeem(String ticket) {
+		if (ticket == null) return null;
+		Ticket t = tickets.remove(ticket);
+		return t != null && t.expiresAt() > System.currentTimeMillis() ? t.holder() : null;
+	}
+
+	@Scheduled(fixedDelayString = "${app.dashboard.stream.ticket-ttl-ms:30000}")
+	public void purgeExpired() {
+		long now = System.currentTimeMillis();
+		tickets.values().removeIf(t -> t.expiresAt() <= now);
+	}
+}
@@ -0,0 +1,47 @@
+package com.demo.employeeService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.demo.employeeRepository.UserRepository;
+import com.demo.util.VerifiedTokenCache;
+
+/**
+ * In-memory view of each user's security epoch. Only users whose epoch was ever
+ * bumped are held, so the map stays small; it is reloaded in the background so
+ * bumps made by other instances are picked up within the refresh interval.
+ */
+@Service
+public class TokenRevocationService {
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private VerifiedTokenCache tokenCache;
+
+	private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+
+	/** True when the token was issued before the user's latest logout or role change. */
+	public boolean isRevoked(String email, long tokenEpoch) {
+		return tokenEpoch < epochs.getOrDefault(email, 0L);
+	}
+
+	/** Invalidates every token issued to the user so far. */
+	public void revokeAll(String email) {
+		userRepo.incrementSecurityEpoch(email);
+		Long current = userRepo.findSecurityEpochByEmail(email);
+		if (current != null) epochs.merge(email, current, Math::max);
+		tokenCache.invalidateSubject(email);
+	}
+
+	@Scheduled(fixedDelayString = "${app.jwt.revocation-refresh-ms:30000}")
+	public void refresh() {
+		// Epochs only grow; merging keeps a revokeAll that lands while this query runs.
+		userRepo.findBySecurityEpochGreaterThan(0).forEach(u -> epochs.merge(u.getEmail(), u.getSecurityEpoch(), Math::max));
+	}
+}
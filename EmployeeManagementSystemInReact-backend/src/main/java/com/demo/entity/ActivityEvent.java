@@ -0,0 +1,57 @@
+package com.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One line of the activity feed. Rows are only ever inserted. Events with an
+ * employee id show in that employee's feed; {@code visibleToAll} events also
+ * show in the admin feed.
+ */
+@Entity
+@Table(name = "activity_event", indexes = {
+        @Index(name = "idx_activity_employee_id", columnList = "employee_id, id"),
+        @Index(name = "idx_activity_visible_id", columnList = "visible_to_all, id")
+})
+public class ActivityEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "visible_to_all", nullable = false)
+    private boolean visibleToAll;
+
+    private String type;   // HIRE, LEAVE, CLOCK
+    private String text;
+    private String timeLabel;
+    private LocalDateTime createdAt;
+
+    public ActivityEvent() {}
+
+    public ActivityEvent(Long employeeId, boolean visibleToAll, String type, String text, String timeLabel) {
+        this.employeeId = employeeId;
+        this.visibleToAll = visibleToAll;
+        this.type = type;
+        this.text = text;
+        this.timeLabel = timeLabel;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    public boolean isVisibleToAll() { return visibleToAll; }
+    public void setVisibleToAll(boolean visibleToAll) { this.visibleToAll = visibleToAll; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+    public String getTimeLabel() { return timeLabel; }
+    public void setTimeLabel(String timeLabel) { this.timeLabel = timeLabel; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,44 @@
+package com.demo.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Per-employee attendance totals for one calendar month, maintained alongside the
+ * attendance table so dashboards and reports never scan the raw history.
+ */
+@Entity
+@Table(name = "attendance_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_employee_month", columnNames = {"employee_id", "period_year", "period_month"}))
+public class AttendanceMonthlyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private long employeeId;
+
+    @Column(name = "period_year", nullable = false)
+    private int year;
+
+    @Column(name = "period_month", nullable = false)
+    private int month;
+
+    private int days;
+    private double totalHours;
+
+    public AttendanceMonthlyRollup() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(long employeeId) { this.employeeId = employeeId; }
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+    public int getDays() { return days; }
+    public void setDays(int days) { this.days = days; }
+    public double getTotalHours() { return totalHours; }
+    public void setTotalHours(double totalHours) { this.totalHours = totalHours; }
+    public double getAverageHours() { return days > 0 ? totalHours / days : 0.0; }
+}
@@ -1,17 +1,27 @@
 package com.demo.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_employee_status_id", columnList = "status, id"),
+		@Index(name = "idx_employee_department_id", columnList = "department, id"),
+		@Index(name = "idx_employee_work_model_id", columnList = "workModel, id"),
+		@Index(name = "idx_employee_employment_type_id", columnList = "employmentType, id")
+})
 public class Employee {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private long id;
 	private String name;
+	@Column(unique = true)
 	private String email;
 	private String phone;
 	private String department;
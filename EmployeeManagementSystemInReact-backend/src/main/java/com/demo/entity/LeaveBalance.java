@@ -0,0 +1,41 @@
+package com.demo.entity;
+
+import jakarta.persistence.*;
+
+/** Days granted and taken for one employee, year and leave type. */
+@Entity
+@Table(name = "leave_balance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_leave_balance_employee_year_type", columnNames = {"employee_id", "balance_year", "leave_type"}))
+public class LeaveBalance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private long employeeId;
+
+    @Column(name = "balance_year", nullable = false)
+    private int year;
+
+    @Column(name = "leave_type", nullable = false)
+    private String type;
+
+    private double entitled;
+    private double used;
+
+    public LeaveBalance() {}
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(long employeeId) { this.employeeId = employeeId; }
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public double getEntitled() { return entitled; }
+    public void setEntitled(double entitled) { this.entitled = entitled; }
+    public double getUsed() { return used; }
+    public void setUsed(double used) { this.used = used; }
+    public double getRemaining() { return entitled - used; }
+}
@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "leave_requests")
+@Table(name = "leave_requests", indexes = @Index(name = "idx_leave_status_start_end", columnList = "status, startDate, endDate"))
 public class LeaveRequest {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,7 +18,11 @@ public class LeaveRequest {
     private LocalDate endDate;
     private String reason;
     private String status; // PENDING, APPROVED, REJECTED
-    private String type;   // SICK, CASUAL, VACATION
+    private String type;   // a LeaveType name or client label, e.g. Annual
+
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
 
     public LeaveRequest() {}
 
@@ -36,4 +40,6 @@ public class LeaveRequest {
     public void setStatus(String status) { this.status = status; }
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -24,7 +24,10 @@ public class User {
     private String password;
 
     private String role;
-    
+
+    // Bumped on logout and role change; tokens carrying an older epoch are rejected.
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long securityEpoch;
 
 
 	public User(Long id, String username, String email, String password, String role) {
@@ -81,6 +84,14 @@ public class User {
 		this.role = role;
 	}
 
+	public long getSecurityEpoch() {
+		return securityEpoch;
+	}
+
+	public void setSecurityEpoch(long securityEpoch) {
+		this.securityEpoch = securityEpoch;
+	}
+
 	
 	
 }
@@ -0,0 +1,90 @@
+package com.demo.util;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import com.demo.entity.Employee;
+
+/**
+ * Column layout of the employee CSV format.
+ */
+public final class EmployeeCsvColumns {
+
+    private EmployeeCsvColumns() {}
+
+    /** A column; {@code setter} is null for columns that are ignored on import. */
+    public record Column(String name, Function<Employee, Object> getter, BiConsumer<Employee, String> setter) {}
+
+    public static final List<Column> COLUMNS = List.of(
+            new Column("id", Employee::getId, null),
+            new Column("employeeId", Employee::getEmployeeId, Employee::setEmployeeId),
+            new Column("name", Employee::getName, Employee::setName),
+            new Column("email", Employee::getEmail, Employee::setEmail),
+            new Column("phone", Employee::getPhone, Employee::setPhone),
+            new Column("department", Employee::getDepartment, Employee::setDepartment),
+            new Column("designation", Employee::getDesignation, Employee::setDesignation),
+            new Column("salary", Employee::getSalary, (e, v) -> e.setSalary(Double.valueOf(v))),
+            new Column("joiningDate", Employee::getJoiningDate, (e, v) -> e.setJoiningDate(LocalDate.parse(v))),
+            new Column("status", Employee::getStatus, Employee::setStatus),
+            new Column("employmentType", Employee::getEmploymentType, Employee::setEmploymentType),
+            new Column("workModel", Employee::getWorkModel, Employee::setWorkModel),
+            new Column("linkedin", Employee::getLinkedin, Employee::setLinkedin),
+            new Column("twitter", Employee::getTwitter, Employee::setTwitter),
+            new Column("instagram", Employee::getInstagram, Employee::setInstagram),
+            new Column("transportationAllowance", Employee::getTransportationAllowance, (e, v) -> e.setTransportationAllowance(Double.valueOf(v))),
+            new Column("mealAllowance", Employee::getMealAllowance, (e, v) -> e.setMealAllowance(Double.valueOf(v))),
+            new Column("internetAllowance", Employee::getInternetAllowance, (e, v) -> e.setInternetAllowance(Double.valueOf(v))),
+            new Column("healthInsurance", Employee::getHealthInsurance, (e, v) -> e.setHealthInsurance(Double.valueOf(v))),
+            new Column("lifeInsurance", Employee::getLifeInsurance, (e, v) -> e.setLifeInsurance(Double.valueOf(v))),
+            new Column("trainingProgram", Employee::getTrainingProgram, (e, v) -> e.setTrainingProgram(Double.valueOf(v))),
+            new Column("fitnessMembership", Employee::getFitnessMembership, (e, v) -> e.setFitnessMembership(Double.valueOf(v))),
+            new Column("gender", Employee::getGender, Employee::setGender),
+            new Column("dob", Employee::getDob, (e, v) -> e.setDob(LocalDate.parse(v))),
+            new Column("address", Employee::getAddress, Employee::setAddress),
+            new Column("city", Employee::getCity, Employee::setCity),
+            new Column("experience", Employee::getExperience, Employee::setExperience));
+
+    public static Column byName(String name) {
+        for (Column column : COLUMNS) {
+            if (column.name().equalsIgnoreCase(name.trim())) return column;
+        }
+        return null;
+    }
+
+    public static String headerLine() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(COLUMNS.get(i).name());
+        }
+        return sb.append('\n').toString();
+    }
+
+    public static String toLine(Employee employee) {
+        StringBuilder sb = new StringBuilder(256);
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) sb.append(',');
+            Object value = COLUMNS.get(i).getter().apply(employee);
+            if (value != null) appendEscaped(sb, value.toString());
+        }
+        return sb.append('\n').toString();
+    }
+
+    static void appendEscaped(StringBuilder sb, String value) {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            sb.append(value);
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') sb.append('"');
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+}
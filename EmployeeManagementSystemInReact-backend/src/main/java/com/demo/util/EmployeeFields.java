@@ -0,0 +1,53 @@
+package com.demo.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldsets for employee reads. A request names either a predefined
+ * {@code view} or a comma separated {@code fields} list; both are checked
+ * against the employee attributes and always include {@code id}, which the
+ * keyset cursor needs.
+ */
+public final class EmployeeFields {
+
+    private EmployeeFields() {}
+
+    public static final Map<String, List<String>> VIEWS = Map.of(
+            "list", List.of("id", "name", "department", "status"),
+            "card", List.of("id", "employeeId", "name", "email", "phone", "department", "designation", "status", "workModel", "city"),
+            "detail", List.of("id", "employeeId", "name", "email", "phone", "department", "designation", "joiningDate",
+                    "status", "employmentType", "workModel", "gender", "city", "experience", "linkedin", "twitter", "instagram"));
+
+    /**
+     * Attribute names to select, in request order, or null when neither parameter
+     * is given and the full record should be returned.
+     *
+     * @throws IllegalArgumentException for an unknown view or field
+     */
+    public static List<String> resolve(String fields, String view) {
+        boolean hasFields = fields != null && !fields.isBlank();
+        boolean hasView = view != null && !view.isBlank();
+        if (!hasFields && !hasView) return null;
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        if (hasView) {
+            List<String> preset = VIEWS.get(view.trim().toLowerCase());
+            if (preset == null) throw new IllegalArgumentException("Unknown view: " + view + " (expected one of " + VIEWS.keySet() + ")");
+            selected.addAll(preset);
+        }
+        if (hasFields) {
+            for (String name : fields.split(",")) {
+                if (name.isBlank()) continue;
+                EmployeeCsvColumns.Column column = EmployeeCsvColumns.byName(name);
+                if (column == null) throw new IllegalArgumentException("Unknown field: " + name.trim());
+                selected.add(column.name());
+            }
+        }
+        return new ArrayList<>(selected);
+    }
+}
@@ -1,9 +1,11 @@
 package com.demo.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -18,41 +20,50 @@ public class JwtTokenProvider {
 
     private final long expiration = 86400000;  // 1 दिवस
 
+    public static final String ROLE_CLAIM = "role";
+    public static final String EPOCH_CLAIM = "epoch";
+
+    // Key and parser are immutable and thread-safe, so build them once.
+    private final Key signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+    @Autowired
+    private VerifiedTokenCache cache;
    
     //
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        return verify(token).subject();
     }
 
   
-    public String generateToken(String email) {
+    public String generateToken(String email, String role, long epoch) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim(ROLE_CLAIM, role)
+                .claim(EPOCH_CLAIM, epoch)
                 .setIssuedAt(new Date(System.currentTimeMillis())) 
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     // it checks token is expired or not 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        VerifiedTokenCache.VerifiedToken verified = verify(token);
+        return (verified.subject().equals(userDetails.getUsername()) && !verified.isExpired(System.currentTimeMillis()));
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
-    }
+    /**
+     * Checks signature and expiry, parsing the token only the first time it is seen.
+     * Throws a JwtException for tokens that are malformed, tampered with or expired.
+     */
+    public VerifiedTokenCache.VerifiedToken verify(String token) {
+        VerifiedTokenCache.VerifiedToken verified = cache.get(token);
+        if (verified != null) return verified;
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verified = new VerifiedTokenCache.VerifiedToken(claims.getSubject(), claims.getExpiration().getTime(), claims);
+        cache.put(token, verified);
+        return verified;
     }
-
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    } 
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.demo.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe map bounded by approximate least-recent use. Reads are lock-free:
+ * a hit only stamps its entry with the current time. Once a put takes the map
+ * past its limit, one writer evicts the least recently used tenth in a batch
+ * while other threads carry on, so the size can briefly exceed the limit.
+ */
+public class LruCache<K, V> {
+
+    private static final class Entry<V> {
+        final V value;
+        volatile long lastUsed;
+
+        Entry(V value) {
+            this.value = value;
+            this.lastUsed = System.nanoTime();
+        }
+    }
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock evicting = new ReentrantLock();
+
+    public LruCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public V get(K key) {
+        Entry<V> e = map.get(key);
+        if (e == null) return null;
+        e.lastUsed = System.nanoTime();
+        return e.value;
+    }
+
+    public void put(K key, V value) {
+        map.put(key, new Entry<>(value));
+        if (map.size() > maxSize) evict();
+    }
+
+    /** The cached value, or one created and cached atomically when there is none. */
+    public V computeIfAbsent(K key, Function<K, V> create) {
+        boolean[] created = new boolean[1];
+        Entry<V> e = map.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return new Entry<>(create.apply(k));
+        });
+        if (created[0]) {
+            if (map.size() > maxSize) evict();
+        } else {
+            e.lastUsed = System.nanoTime();
+        }
+        return e.value;
+    }
+
+    public void remove(K key) {
+        map.remove(key);
+    }
+
+    public void removeIf(Predicate<V> predicate) {
+        map.values().removeIf(e -> predicate.test(e.value));
+    }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void evict() {
+        if (!evicting.tryLock()) return;
+        try {
+            int excess = map.size() - maxSize;
+            if (excess <= 0) return;
+            List<Map.Entry<K, Entry<V>>> entries = new ArrayList<>(map.entrySet());
+            entries.sort(Comparator.comparingLong(e -> e.getValue().lastUsed));
+            // Drop a tenth beyond the limit so the sort is paid once per batch of puts, not per put.
+            int target = Math.min(entries.size(), excess + Math.max(1, maxSize / 10));
+            for (int i = 0; i < target; i++) {
+                Map.Entry<K, Entry<V>> e = entries.get(i);
+                map.remove(e.getKey(), e.getValue());
+            }
+        } finally {
+            evicting.unlock();
+        }
+    }
+}
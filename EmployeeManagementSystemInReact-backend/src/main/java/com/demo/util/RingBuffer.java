@@ -0,0 +1,40 @@
+package com.demo.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity, thread-safe buffer that keeps the most recent items; adding to a
+ * full buffer overwrites the oldest one.
+ */
+public class RingBuffer<T> {
+
+    private final Object[] items;
+    private int next;
+    private int size;
+
+    public RingBuffer(int capacity) {
+        this.items = new Object[capacity];
+    }
+
+    public synchronized void add(T item) {
+        items[next] = item;
+        next = (next + 1) % items.length;
+        if (size < items.length) size++;
+    }
+
+    /** Up to {@code limit} items, newest first. */
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> latest(int limit) {
+        int n = Math.min(limit, size);
+        List<T> result = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            result.add((T) items[(next - i + items.length) % items.length]);
+        }
+        return result;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+}
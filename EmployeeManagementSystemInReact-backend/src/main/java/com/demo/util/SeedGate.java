@@ -0,0 +1,59 @@
+package com.demo.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinates an in-memory store that is loaded from the database with the
+ * after-commit writes that keep it current. Writes arriving while a load is
+ * reading are queued and replayed once the loaded state is installed, so a
+ * commit the load did not see is not lost. {@link #reset()} invalidates a load
+ * still in progress: its {@link #complete} becomes a no-op.
+ */
+public class SeedGate {
+
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean loading;
+    private long generation;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Applies the write now, queues it behind a running load, or drops it when nothing is loaded. */
+    public synchronized void run(Runnable write) {
+        if (loading) pending.add(write);
+        else if (ready) write.run();
+    }
+
+    /** Starts queueing writes; pass the returned token to {@link #complete} or {@link #abort}. */
+    public synchronized long begin() {
+        loading = true;
+        pending.clear();
+        return generation;
+    }
+
+    /** Installs the loaded state and replays queued writes, unless reset since {@code token}. */
+    public synchronized boolean complete(long token, Runnable install) {
+        if (token != generation) return false;
+        install.run();
+        pending.forEach(Runnable::run);
+        pending.clear();
+        loading = false;
+        ready = true;
+        return true;
+    }
+
+    public synchronized void abort(long token) {
+        if (token == generation) reset();
+    }
+
+    /** Forgets the loaded state; the next reader loads again. */
+    public synchronized void reset() {
+        generation++;
+        pending.clear();
+        loading = false;
+        ready = false;
+    }
+}
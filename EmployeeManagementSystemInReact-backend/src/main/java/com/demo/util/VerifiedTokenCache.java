@@ -0,0 +1,93 @@
+package com.demo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Tokens whose signature has already been checked, keyed by a SHA-256 digest of the
+ * compact token so raw tokens are never held in memory. Entries are dropped once
+ * the token expires, and the map never grows past {@code app.jwt.cache-size}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record VerifiedToken(String subject, long expiresAtMillis, Claims claims) {
+        public boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${app.jwt.cache-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        VerifiedToken cached = tokens.get(key);
+        if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+            hits.increment();
+            return cached;
+        }
+        if (cached != null) tokens.remove(key, cached);
+        misses.increment();
+        return null;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (tokens.size() >= maxSize) evict();
+        tokens.put(digest(token), verified);
+    }
+
+    public void invalidateSubject(String subject) {
+        tokens.values().removeIf(t -> t.subject().equals(subject));
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(t -> t.isExpired(now));
+        // Still full of live tokens: drop an arbitrary quarter rather than growing.
+        Iterator<String> it = tokens.keySet().iterator();
+        int toDrop = tokens.size() - (maxSize * 3 / 4);
+        while (toDrop-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.util.JwtTokenProvider;
+
+/** Over real HTTP, since MockMvc bypasses the servlet container's compression. */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties =
+		"spring.datasource.url=jdbc:h2:mem:ems-gzip;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class CompressionTest {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	@Test
+	void taggedListingsAreGzipped() throws Exception {
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			Employee e = new Employee();
+			e.setName("Compressed Employee " + i);
+			e.setEmail("employee" + i + "@gzip.test");
+			e.setDepartment("Engineering");
+			e.setDesignation("Associate");
+			e.setStatus("ACTIVE");
+			employees.add(e);
+		}
+		employeeRepo.saveAll(employees);
+		String token = "Bearer " + jwt.generateToken("admin@gzip.test", "ROLE_ADMIN", 0);
+
+		HttpResponse<byte[]> response = http.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/getEmployee"))
+				.header("Authorization", token)
+				.header("Accept-Encoding", "gzip")
+				.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		String etag = response.headers().firstValue("ETag").orElseThrow();
+		assertThat(etag).startsWith("W/\"");
+		assertThat(gunzip(response.body())).contains("Compressed Employee 39");
+
+		HttpResponse<byte[]> revalidated = http.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/getEmployee"))
+				.header("Authorization", token)
+				.header("Accept-Encoding", "gzip")
+				.header("If-None-Match", etag)
+				.build(), HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(revalidated.statusCode()).isEqualTo(304);
+	}
+
+	private static String gunzip(byte[] body) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
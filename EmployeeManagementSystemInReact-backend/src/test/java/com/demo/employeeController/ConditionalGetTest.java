@@ -0,0 +1,108 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.config.SqlStatementCounter;
+import com.demo.employeeRepository.DepartmentRepository;
+import com.demo.entity.Department;
+import com.demo.util.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private SqlStatementCounter statements;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private DepartmentRepository departmentRepo;
+
+	@Test
+	void unchangedReadsAnswer304WithoutQueries() throws Exception {
+		String token = "Bearer " + jwt.generateToken("admin@etag.test", "ROLE_ADMIN", 0);
+		for (String url : new String[] { "/api/getEmployee", "/api/employees?size=5&status=ACTIVE", "/api/departments" }) {
+			String etag = mvc.perform(get(url).header("Authorization", token))
+					.andExpect(status().isOk())
+					.andExpect(header().string("Cache-Control", "no-cache"))
+					.andReturn().getResponse().getHeader("ETag");
+			assertThat(etag).startsWith("W/\"");
+
+			statements.begin();
+			try {
+				mvc.perform(get(url).header("Authorization", token).header("If-None-Match", etag))
+						.andExpect(status().isNotModified());
+			} finally {
+				assertThat(statements.end()).as("SQL statements for %s", url).isZero();
+			}
+		}
+	}
+
+	@Test
+	void writesChangeTheTag() throws Exception {
+		String token = "Bearer " + jwt.generateToken("admin@etag.test", "ROLE_ADMIN", 0);
+		Department dept = departmentRepo.save(new Department(null, "Legal", "Contracts"));
+		String url = "/api/departments/" + dept.getId();
+		String before = mvc.perform(get(url).header("Authorization", token)).andReturn().getResponse().getHeader("ETag");
+		String other = mvc.perform(get("/api/departments").header("Authorization", token)).andReturn().getResponse().getHeader("ETag");
+		assertThat(before).isNotEqualTo(other);
+
+		mvc.perform(patch(url).header("Authorization", token)
+				.contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"Legal\",\"description\":\"Contracts and IP\"}"))
+				.andExpect(status().isOk());
+
+		mvc.perform(get(url).header("Authorization", token).header("If-None-Match", before))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", org.hamcrest.Matchers.not(before)));
+	}
+
+	@Test
+	void parametersWithTheSameHashCodeGetDifferentTags() throws Exception {
+		String token = "Bearer " + jwt.generateToken("admin@etag.test", "ROLE_ADMIN", 0);
+		// "Aa" and "BB" have the same String.hashCode, and so the same Arrays.hashCode of the parameters.
+		String aa = mvc.perform(get("/api/employees?department=Aa").header("Authorization", token))
+				.andReturn().getResponse().getHeader("ETag");
+		String bb = mvc.perform(get("/api/employees?department=BB").header("Authorization", token))
+				.andReturn().getResponse().getHeader("ETag");
+		assertThat(aa).isNotEqualTo(bb);
+
+		mvc.perform(get("/api/employees?department=BB").header("Authorization", token).header("If-None-Match", aa))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void eachEncodingHasItsOwnTag() throws Exception {
+		String token = "Bearer " + jwt.generateToken("admin@etag.test", "ROLE_ADMIN", 0);
+		String json = mvc.perform(get("/api/departments").header("Authorization", token))
+				.andExpect(header().stringValues("Vary", org.hamcrest.Matchers.hasItem("Accept")))
+				.andReturn().getResponse().getHeader("ETag");
+		String cbor = mvc.perform(get("/api/departments").header("Authorization", token).accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader("ETag");
+		assertThat(cbor).isNotEqualTo(json);
+
+		mvc.perform(get("/api/departments").header("Authorization", token).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", json))
+				.andExpect(status().isOk());
+		mvc.perform(get("/api/departments").header("Authorization", token).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", cbor))
+				.andExpect(status().isNotModified())
+				.andExpect(header().stringValues("Vary", org.hamcrest.Matchers.hasItem("Accept")));
+	}
+}
@@ -0,0 +1,68 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.util.JwtTokenProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ContentNegotiationTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Test
+	void binaryEncodingsCarryTheSamePayload() throws Exception {
+		Employee e = new Employee();
+		e.setName("Binary");
+		e.setEmail("binary@negotiation.test");
+		e.setJoiningDate(LocalDate.of(2024, 2, 29));
+		e = employeeRepo.save(e);
+		String url = "/api/employee/" + e.getId();
+		String token = "Bearer " + jwt.generateToken("admin@negotiation.test", "ROLE_ADMIN", 0);
+
+		byte[] json = mvc.perform(get(url).header("Authorization", token))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+				.andReturn().getResponse().getContentAsByteArray();
+		byte[] cbor = mvc.perform(get(url).header("Authorization", token).accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+				.andReturn().getResponse().getContentAsByteArray();
+		byte[] smile = mvc.perform(get(url).header("Authorization", token).accept(new MediaType("application", "x-jackson-smile")))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray();
+
+		JsonNode expected = new ObjectMapper().readTree(json);
+		assertThat(new ObjectMapper(new CBORFactory()).readTree(cbor)).isEqualTo(expected);
+		assertThat(new ObjectMapper(new SmileFactory()).readTree(smile)).isEqualTo(expected);
+		assertThat(expected.at("/data/joiningDate").asText()).isEqualTo("2024-02-29");
+		assertThat(cbor.length).isLessThan(json.length);
+	}
+}
@@ -0,0 +1,107 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.UserRepository;
+import com.demo.employeeService.AttendanceService;
+import com.demo.employeeService.LeaveService;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+import com.demo.entity.User;
+import com.demo.util.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DashboardStreamTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private AttendanceService attendance;
+
+	@Autowired
+	private LeaveService leaves;
+
+	@Test
+	void pushesStatsAndActivitiesAsTheyCommit() throws Exception {
+		userRepo.save(new User(null, "streamer", "streamer@stream.test", "x", "ROLE_USER"));
+		Employee e = new Employee();
+		e.setName("Streamer");
+		e.setEmail("streamer@stream.test");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+		String userToken = jwt.generateToken("streamer@stream.test", "ROLE_USER", 0);
+		String adminToken = jwt.generateToken("admin@stream.test", "ROLE_ADMIN", 0);
+
+		MockHttpServletResponse user = mvc.perform(get("/api/dashboard/stream").param("ticket", ticket(userToken)))
+				.andExpect(request().asyncStarted()).andReturn().getResponse();
+		MockHttpServletResponse admin = mvc.perform(get("/api/dashboard/stream").header("Authorization", "Bearer " + adminToken))
+				.andExpect(request().asyncStarted()).andReturn().getResponse();
+		awaitContent(user, "\"presentDays\":0");
+		awaitContent(admin, "\"pendingLeaves\"");
+
+		attendance.checkIn(e.getId());
+		awaitContent(user, "Checked in at");
+		awaitContent(user, "\"presentDays\":1");
+
+		LeaveRequest request = new LeaveRequest();
+		request.setStartDate(LocalDate.of(2027, 6, 1));
+		request.setEndDate(LocalDate.of(2027, 6, 2));
+		request.setType("CASUAL");
+		leaves.applyLeave(request, e.getId());
+		awaitContent(admin, "CASUAL leave for Streamer is PENDING");
+		assertThat(admin.getContentAsString()).doesNotContain("Checked in at");
+	}
+
+	@Test
+	void ticketsAreSingleUseAndTheJwtIsNotAcceptedAsAParameter() throws Exception {
+		String token = jwt.generateToken("admin@stream.test", "ROLE_ADMIN", 0);
+		mvc.perform(get("/api/dashboard/stream").param("access_token", token)).andExpect(status().isUnauthorized());
+		mvc.perform(post("/api/dashboard/stream/ticket")).andExpect(status().isUnauthorized());
+
+		String ticket = ticket(token);
+		mvc.perform(get("/api/dashboard/stats").param("ticket", ticket)).andExpect(status().isUnauthorized());
+		mvc.perform(get("/api/dashboard/stream").param("ticket", ticket)).andExpect(request().asyncStarted());
+		mvc.perform(get("/api/dashboard/stream").param("ticket", ticket)).andExpect(status().isUnauthorized());
+	}
+
+	private String ticket(String token) throws Exception {
+		String body = mvc.perform(post("/api/dashboard/stream/ticket").header("Authorization", "Bearer " + token))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+		return com.jayway.jsonpath.JsonPath.read(body, "$.data");
+	}
+
+	private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(response.getContentAsString()).contains(expected);
+	}
+}
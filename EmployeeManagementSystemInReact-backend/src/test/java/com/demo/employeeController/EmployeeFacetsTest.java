@@ -0,0 +1,85 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.config.SqlStatementCounter;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.util.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeFacetsTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private SqlStatementCounter statements;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Test
+	void filtersNarrowOtherFacetsAndWritesRefreshTheCache() throws Exception {
+		save("Ops", "ACTIVE", "Female");
+		save("Ops", "INACTIVE", "Male");
+		save("Legal", "ACTIVE", "Female");
+		String token = "Bearer " + jwt.generateToken("hr@facets.test", "ROLE_HR", 0);
+		String url = "/api/employees/facets?city=Facetville&department=Ops";
+
+		mvc.perform(get(url).header("Authorization", token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.total").value(2))
+				.andExpect(jsonPath("$.data.facets.department[?(@.value=='Ops')].count", contains(2)))
+				.andExpect(jsonPath("$.data.facets.department[?(@.value=='Legal')].count", contains(1)))
+				.andExpect(jsonPath("$.data.facets.status[?(@.value=='INACTIVE')].count", contains(1)))
+				.andExpect(jsonPath("$.data.facets.gender[?(@.value=='Female')].count", contains(1)))
+				.andExpect(content().string(not(org.hamcrest.Matchers.containsString("@facets.test"))));
+
+		statements.begin();
+		try {
+			mvc.perform(get(url).header("Authorization", token)).andExpect(status().isOk());
+		} finally {
+			assertThat(statements.end()).as("cached facets").isZero();
+		}
+
+		mvc.perform(post("/api/employee").header("Authorization", token).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Late hire\",\"email\":\"late@facets.test\",\"department\":\"Ops\",\"status\":\"ACTIVE\",\"city\":\"Facetville\"}"))
+				.andExpect(status().is2xxSuccessful());
+
+		mvc.perform(get(url).header("Authorization", token))
+				.andExpect(jsonPath("$.data.total").value(3))
+				.andExpect(jsonPath("$.data.facets.status[?(@.value=='ACTIVE')].count", contains(2)));
+	}
+
+	private void save(String department, String status, String gender) {
+		Employee e = new Employee();
+		e.setName(department + " " + status);
+		e.setEmail(department.toLowerCase() + "." + status.toLowerCase() + "." + gender.toLowerCase() + "@facets.test");
+		e.setDepartment(department);
+		e.setStatus(status);
+		e.setGender(gender);
+		e.setCity("Facetville");
+		employeeRepo.save(e);
+	}
+}
@@ -0,0 +1,41 @@
+package com.demo.employeeController;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.util.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsAccessTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Test
+	void prometheusIsOpenToScrapeNetworksAndAdminsOnly() throws Exception {
+		mvc.perform(get("/actuator/prometheus").with(r -> { r.setRemoteAddr("127.0.0.1"); return r; }))
+				.andExpect(status().isOk());
+		mvc.perform(get("/actuator/prometheus").with(r -> { r.setRemoteAddr("203.0.113.7"); return r; }))
+				.andExpect(status().isUnauthorized());
+		mvc.perform(get("/actuator/prometheus").with(r -> { r.setRemoteAddr("203.0.113.7"); return r; })
+				.header("Authorization", "Bearer " + jwt.generateToken("user@metrics.test", "ROLE_USER", 0)))
+				.andExpect(status().isForbidden());
+		mvc.perform(get("/actuator/prometheus").with(r -> { r.setRemoteAddr("203.0.113.7"); return r; })
+				.header("Authorization", "Bearer " + jwt.generateToken("admin@metrics.test", "ROLE_ADMIN", 0)))
+				.andExpect(status().isOk());
+	}
+}
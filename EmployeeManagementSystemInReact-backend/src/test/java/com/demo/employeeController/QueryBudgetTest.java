@@ -0,0 +1,190 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.demo.config.SqlStatementCounter;
+import com.demo.employeeRepository.AttendanceRepository;
+import com.demo.employeeRepository.DepartmentRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.employeeRepository.UserRepository;
+import com.demo.entity.Attendance;
+import com.demo.entity.Department;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+import com.demo.entity.User;
+import com.demo.util.JwtTokenProvider;
+
+/**
+ * Per-endpoint SQL budgets, counted at the JDBC level so JdbcTemplate writes
+ * are included. Every seeded employee has attendance and leave rows, so an N+1
+ * on any of these paths blows far past its budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+	private static final int EMPLOYEES = 20;
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private SqlStatementCounter statements;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private AttendanceRepository attendanceRepo;
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	@Autowired
+	private DepartmentRepository departmentRepo;
+
+	private String adminToken;
+	private String userToken;
+	private long userEmployeeId;
+
+	@BeforeAll
+	void seed() {
+		userRepo.save(new User(null, "admin", "admin@budget.test", "x", "ROLE_ADMIN"));
+		userRepo.save(new User(null, "user", "user@budget.test", "x", "ROLE_USER"));
+		adminToken = jwt.generateToken("admin@budget.test", "ROLE_ADMIN", 0);
+		userToken = jwt.generateToken("user@budget.test", "ROLE_USER", 0);
+		departmentRepo.save(new Department(null, "Engineering", "Builds things"));
+
+		LocalDate today = LocalDate.now();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			Employee e = new Employee();
+			e.setName("Employee " + i);
+			e.setEmail(i == 0 ? "user@budget.test" : "employee" + i + "@budget.test");
+			e.setDepartment("Engineering");
+			e.setStatus("ACTIVE");
+			e.setJoiningDate(today.minusDays(i));
+			e = employeeRepo.save(e);
+			if (i == 0) userEmployeeId = e.getId();
+
+			for (int d = 1; d <= 3; d++) {
+				Attendance a = new Attendance();
+				a.setEmployee(e);
+				a.setDate(today.minusDays(d));
+				a.setCheckIn(LocalTime.of(9, 0));
+				a.setCheckOut(LocalTime.of(17, 0));
+				a.setWorkingHours(8.0);
+				attendanceRepo.save(a);
+			}
+
+			LeaveRequest approved = new LeaveRequest();
+			approved.setEmployee(e);
+			approved.setStartDate(today.minusDays(1));
+			approved.setEndDate(today.plusDays(1));
+			approved.setStatus("APPROVED");
+			approved.setType("CASUAL");
+			leaveRepo.save(approved);
+
+			LeaveRequest pending = new LeaveRequest();
+			pending.setEmployee(e);
+			pending.setStartDate(today.plusDays(10));
+			pending.setEndDate(today.plusDays(11));
+			pending.setStatus("PENDING");
+			pending.setType("SICK");
+			leaveRepo.save(pending);
+		}
+	}
+
+	@Test
+	void employeeDirectoryReads() throws Exception {
+		assertBudget(1, get("/api/getEmployee"), adminToken);
+		assertBudget(1, get("/api/employees?size=10"), adminToken);
+		assertBudget(1, get("/api/employees?size=10&department=Engineering&status=ACTIVE"), adminToken);
+		assertBudget(1, get("/api/employees?size=10&view=list&status=ACTIVE"), adminToken);
+		assertBudget(1, get("/api/getEmployee?fields=name,department"), adminToken);
+		assertBudget(1, get("/api/employee/" + userEmployeeId), adminToken);
+		assertBudget(6, get("/api/employees/facets?department=Engineering"), adminToken); // one GROUP BY per facet
+	}
+
+	@Test
+	void selfServiceReads() throws Exception {
+		perform(get("/api/me"), userToken); // warm the principal cache
+		assertBudget(1, get("/api/me"), userToken);
+	}
+
+	@Test
+	void adminDashboard() throws Exception {
+		perform(get("/api/dashboard/stats"), adminToken); // seed the aggregate store, leave index and feed
+		assertBudget(0, get("/api/dashboard/stats"), adminToken);
+	}
+
+	@Test
+	void userDashboard() throws Exception {
+		perform(get("/api/dashboard/stats"), userToken);
+		// Rollup totals and leave balances; activities come from the in-memory feed.
+		assertBudget(2, get("/api/dashboard/stats"), userToken);
+	}
+
+	@Test
+	void leaveReads() throws Exception {
+		assertBudget(1, get("/api/leaves/pending"), adminToken);
+		assertBudget(1, get("/api/leaves/on-leave"), adminToken);
+		perform(get("/api/leaves/out"), adminToken);
+		assertBudget(0, get("/api/leaves/out?from=" + LocalDate.now() + "&to=" + LocalDate.now().plusDays(7) + "&department=Engineering"), adminToken);
+		assertBudget(2, get("/api/leaves/employee/" + userEmployeeId), adminToken);
+	}
+
+	@Test
+	void attendanceReadsAndWrites() throws Exception {
+		assertBudget(1, get("/api/attendance/all?date=" + LocalDate.now().minusDays(1)), adminToken);
+		assertBudget(2, get("/api/attendance/employee/" + userEmployeeId), adminToken);
+		// Employee, attendance insert, rollup upsert, activity insert.
+		assertBudget(4, post("/api/attendance/check-in/" + userEmployeeId), userToken);
+	}
+
+	@Test
+	void departmentReads() throws Exception {
+		assertBudget(1, get("/api/departments"), adminToken);
+	}
+
+	private void assertBudget(long budget, MockHttpServletRequestBuilder request, String token) throws Exception {
+		statements.begin();
+		long used;
+		try {
+			perform(request, token);
+		} finally {
+			used = statements.end();
+		}
+		assertThat(used)
+				.as("SQL statements for %s", request.buildRequest(new org.springframework.mock.web.MockServletContext()).getRequestURI())
+				.isLessThanOrEqualTo(budget);
+	}
+
+	private void perform(MockHttpServletRequestBuilder request, String token) throws Exception {
+		mvc.perform(request.header("Authorization", "Bearer " + token)).andExpect(status().is2xxSuccessful());
+	}
+}
@@ -0,0 +1,47 @@
+package com.demo.employeeController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.employeeRepository.UserRepository;
+import com.demo.entity.User;
+import com.demo.util.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RoleChangeTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Test
+	void onlyKnownRolesAreAccepted() throws Exception {
+		User user = userRepo.save(new User(null, "promoted", "promoted@role.test", "x", "ROLE_USER"));
+		String token = "Bearer " + jwt.generateToken("admin@role.test", "ROLE_ADMIN", 0);
+		String url = "/api/auth/users/" + user.getId() + "/role";
+
+		mvc.perform(patch(url).param("role", "superuser").header("Authorization", token))
+				.andExpect(status().isBadRequest());
+		assertThat(userRepo.findById(user.getId()).orElseThrow().getRole()).isEqualTo("ROLE_USER");
+
+		mvc.perform(patch(url).param("role", "hr").header("Authorization", token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").value("ROLE_HR"));
+	}
+}
@@ -0,0 +1,80 @@
+package com.demo.employeeController;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.util.JwtTokenProvider;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SparseFieldsTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	private String token;
+	private long firstId;
+
+	@BeforeAll
+	void seed() {
+		token = "Bearer " + jwt.generateToken("hr@fields.test", "ROLE_HR", 0);
+		for (int i = 0; i < 3; i++) {
+			Employee e = new Employee();
+			e.setName("Sparse " + i);
+			e.setEmail("sparse" + i + "@fields.test");
+			e.setDepartment("Sparse");
+			e.setStatus("ACTIVE");
+			e.setSalary(1000.0 + i);
+			e = employeeRepo.save(e);
+			if (i == 0) firstId = e.getId();
+		}
+	}
+
+	@Test
+	void viewsSelectOnlyTheirFields() throws Exception {
+		mvc.perform(get("/api/employees?department=Sparse&size=2&view=list").header("Authorization", token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.items", hasSize(2)))
+				.andExpect(jsonPath("$.data.items[0].*", hasSize(4)))
+				.andExpect(jsonPath("$.data.items[0].name").value("Sparse 0"))
+				.andExpect(jsonPath("$.data.items[0].salary").doesNotExist())
+				.andExpect(jsonPath("$.data.hasMore").value(true))
+				.andExpect(jsonPath("$.data.nextCursor").isNumber());
+	}
+
+	@Test
+	void fieldsAreWhitelistedAndAlwaysIncludeId() throws Exception {
+		mvc.perform(get("/api/employee/" + firstId + "?fields=NAME, salary").header("Authorization", token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.*", hasSize(3)))
+				.andExpect(jsonPath("$.data.id").value(firstId))
+				.andExpect(jsonPath("$.data.salary").value(1000.0));
+
+		mvc.perform(get("/api/getEmployee?fields=name,password").header("Authorization", token))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Unknown field: password"));
+		mvc.perform(get("/api/employees?view=wide").header("Authorization", token))
+				.andExpect(status().isBadRequest());
+	}
+}
@@ -0,0 +1,135 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.demo.employeeRepository.ActivityEventRepository;
+import com.demo.employeeRepository.AttendanceRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.entity.ActivityEvent;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ActivityFeedTest {
+
+	@Autowired
+	private ActivityFeed feed;
+
+	@Autowired
+	private LeaveService leaves;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	@Autowired
+	private AttendanceRepository attendanceRepo;
+
+	@Autowired
+	private ActivityEventRepository eventRepo;
+
+	@Test
+	void leaveTransitionsReachBothFeedsNewestFirst() {
+		Employee e = new Employee();
+		e.setName("Feed");
+		e.setEmail("feed@activity.test");
+		e.setDepartment("Ops");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+		feed.recent(5); // load the admin ring before the writes
+		feed.recentFor(e.getId(), 5);
+
+		LeaveRequest request = new LeaveRequest();
+		request.setStartDate(LocalDate.of(2027, 5, 3));
+		request.setEndDate(LocalDate.of(2027, 5, 4));
+		request.setType("SICK");
+		LeaveRequest saved = leaves.applyLeave(request, e.getId());
+		leaves.updateLeaveStatus(saved.getId(), "APPROVED");
+
+		assertThat(feed.recentFor(e.getId(), 5)).extracting(ActivityEvent::getText)
+				.containsExactly("SICK leave for Feed is APPROVED", "SICK leave for Feed is PENDING");
+		assertThat(feed.recent(1)).extracting(ActivityEvent::getText)
+				.containsExactly("SICK leave for Feed is APPROVED");
+
+		feed.append(e.getId(), false, "CLOCK", "Checked in at 09:00", "2027-05-05");
+		assertThat(feed.recentFor(e.getId(), 1)).extracting(ActivityEvent::getType).containsExactly("CLOCK");
+		assertThat(feed.recent(1)).extracting(ActivityEvent::getType).containsExactly("LEAVE");
+	}
+
+	@Test
+	void eventsCommittedDuringTheLoadAreAddedOnce() {
+		ActivityEventRepository repo = org.mockito.Mockito.mock(ActivityEventRepository.class);
+		ActivityFeed fresh = new ActivityFeed(10, 10, 10);
+		ReflectionTestUtils.setField(fresh, "repo", repo);
+		ReflectionTestUtils.setField(fresh, "events", org.mockito.Mockito.mock(DashboardEventHub.class));
+		AtomicLong ids = new AtomicLong();
+		org.mockito.Mockito.when(repo.save(org.mockito.ArgumentMatchers.any())).thenAnswer(inv -> {
+			ActivityEvent event = inv.getArgument(0);
+			event.setId(ids.incrementAndGet());
+			return event;
+		});
+		org.mockito.Mockito.when(repo.findByVisibleToAllTrueOrderByIdDesc(org.mockito.ArgumentMatchers.any())).thenAnswer(inv -> {
+			ActivityEvent before = new ActivityEvent(null, true, "HIRE", "before", "Recent");
+			before.setId(ids.incrementAndGet());
+			// Both commit while the query runs; only "seen" made it into its result.
+			fresh.append(null, true, "HIRE", "missed", "Recent");
+			fresh.append(null, true, "HIRE", "seen", "Recent");
+			ActivityEvent seen = new ActivityEvent(null, true, "HIRE", "seen", "Recent");
+			seen.setId(ids.get());
+			return List.of(seen, before);
+		});
+
+		assertThat(fresh.recent(10)).extracting(ActivityEvent::getText).containsExactly("missed", "seen", "before");
+	}
+
+	@Test
+	void backfillSeedsAnEmptyTableFromPastActivity() {
+		Employee e = new Employee();
+		e.setName("Past");
+		e.setEmail("past@activity.test");
+		e.setDepartment("Ops");
+		e.setStatus("ACTIVE");
+		e.setJoiningDate(LocalDate.of(2020, 1, 6));
+		e = employeeRepo.save(e);
+		LeaveRequest leave = new LeaveRequest();
+		leave.setEmployee(e);
+		leave.setStartDate(LocalDate.of(2027, 6, 1));
+		leave.setEndDate(LocalDate.of(2027, 6, 2));
+		leave.setType("Annual");
+		leave.setStatus("APPROVED");
+		leaveRepo.save(leave);
+		for (int day = 1; day <= 4; day++) {
+			Attendance a = new Attendance();
+			a.setEmployee(e);
+			a.setDate(LocalDate.of(2027, 7, day));
+			a.setCheckIn(LocalTime.of(9, day));
+			attendanceRepo.save(a);
+		}
+		feed.recentFor(e.getId(), 10); // loaded while the table has nothing for this employee
+		eventRepo.deleteAll();
+
+		assertThat(feed.backfill()).isPositive();
+		assertThat(feed.recentFor(e.getId(), 10)).extracting(ActivityEvent::getText).containsExactly(
+				"Checked in at 09:04:00", "Checked in at 09:03:00", "Checked in at 09:02:00",
+				"Annual leave for Past is APPROVED", "New hire: Past joined Ops");
+		assertThat(feed.recent(50)).extracting(ActivityEvent::getText).contains("New hire: Past joined Ops")
+				.doesNotContain("Checked in at 09:04:00");
+		assertThat(feed.backfill()).isZero();
+	}
+}
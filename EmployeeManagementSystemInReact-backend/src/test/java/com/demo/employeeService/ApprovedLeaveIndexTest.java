@@ -0,0 +1,56 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ApprovedLeaveIndexTest {
+
+	@Autowired
+	private ApprovedLeaveIndex index;
+
+	@Autowired
+	private LeaveService leaves;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Test
+	void tracksApprovalsAndRevocations() {
+		Employee e = new Employee();
+		e.setName("Away");
+		e.setEmail("away@index.test");
+		e.setDepartment("Audit");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+		LocalDate monday = LocalDate.of(2027, 3, 1);
+		index.outOn(monday, null); // load the index before the writes
+
+		LeaveRequest request = new LeaveRequest();
+		request.setStartDate(monday.plusDays(1));
+		request.setEndDate(monday.plusDays(3));
+		request.setType("VACATION");
+		LeaveRequest saved = leaves.applyLeave(request, e.getId());
+		assertThat(index.outBetween(monday, monday.plusDays(6), "Audit")).isEmpty();
+
+		leaves.updateLeaveStatus(saved.getId(), "APPROVED");
+		assertThat(index.outOn(monday, "Audit")).isEmpty();
+		assertThat(index.outOn(monday.plusDays(2), "audit")).extracting(ApprovedLeaveIndex.Absence::name).containsExactly("Away");
+		assertThat(index.outBetween(monday, monday.plusDays(6), "Audit")).hasSize(1);
+		assertThat(index.outBetween(monday, monday.plusDays(6), "Sales")).isEmpty();
+
+		leaves.updateLeaveStatus(saved.getId(), "REJECTED");
+		assertThat(index.outBetween(monday, monday.plusDays(6), null)).isEmpty();
+	}
+}
@@ -0,0 +1,127 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.employeeRepository.AttendanceRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+
+@SpringBootTest(properties = {"app.attendance.coalesce.enabled=true", "app.attendance.coalesce.window-ms=20"})
+@ActiveProfiles("test")
+class CheckInCoalescerTest {
+
+	@Autowired
+	private AttendanceService attendance;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private AttendanceRepository attendanceRepo;
+
+	@Autowired
+	private AttendanceRollupService rollups;
+
+	@Autowired
+	private com.demo.employeeRepository.AttendanceJdbcRepository attendanceJdbc;
+
+	@Test
+	void concurrentCheckInsWriteOneRowPerEmployee() throws Exception {
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			Employee e = new Employee();
+			e.setName("Rush " + i);
+			e.setEmail("rush" + i + "@coalesce.test");
+			e.setStatus("ACTIVE");
+			employees.add(e);
+		}
+		employeeRepo.saveAll(employees);
+
+		ExecutorService pool = Executors.newFixedThreadPool(32);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Attendance>> results = new ArrayList<>();
+		try {
+			// Every employee double-clicks.
+			for (int click = 0; click < 2; click++) {
+				for (Employee e : employees) {
+					results.add(pool.submit(() -> {
+						start.await();
+						return attendance.checkIn(e.getId());
+					}));
+				}
+			}
+			start.countDown();
+
+			int ok = 0, duplicate = 0;
+			for (Future<Attendance> f : results) {
+				try {
+					Attendance a = f.get();
+					assertThat(a.getId()).isNotNull();
+					ok++;
+				} catch (java.util.concurrent.ExecutionException ex) {
+					assertThat(ex.getCause()).hasMessage("Already checked in for today");
+					duplicate++;
+				}
+			}
+			assertThat(ok).isEqualTo(employees.size());
+			assertThat(duplicate).isEqualTo(employees.size());
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(attendanceRepo.findByDate(LocalDate.now()).stream()
+				.filter(a -> a.getEmployee().getEmail().endsWith("@coalesce.test")))
+				.hasSize(employees.size());
+		for (Employee e : employees) assertThat(rollups.summary(e.getId()).days()).isEqualTo(1);
+	}
+
+	@Test
+	void onlyTheDailyUniqueKeyCountsAsADuplicate() {
+		Employee twice = new Employee();
+		twice.setName("Twice");
+		twice.setEmail("twice@coalesce.test");
+		Employee e = employeeRepo.save(twice);
+		Attendance first = row(e);
+		attendanceJdbc.insert(first);
+		assertThat(first.getId()).isNotNull();
+
+		org.assertj.core.api.Assertions.assertThatThrownBy(() -> attendanceJdbc.insert(row(e)))
+				.isInstanceOf(org.springframework.dao.DuplicateKeyException.class);
+
+		Employee missing = new Employee();
+		missing.setId(Long.MAX_VALUE);
+		org.assertj.core.api.Assertions.assertThatThrownBy(() -> attendanceJdbc.insert(row(missing)))
+				.isInstanceOf(org.springframework.dao.DataIntegrityViolationException.class)
+				.isNotInstanceOf(org.springframework.dao.DuplicateKeyException.class);
+	}
+
+	private static Attendance row(Employee e) {
+		Attendance a = new Attendance();
+		a.setEmployee(e);
+		a.setDate(LocalDate.of(2020, 1, 6));
+		a.setCheckIn(java.time.LocalTime.of(9, 0));
+		return a;
+	}
+
+	@Test
+	void submitFailsFastWhenTheWriterIsNotRunning() {
+		CheckInCoalescer stopped = new CheckInCoalescer();
+		Employee e = new Employee();
+		e.setId(1L);
+		assertThat(stopped.submit(e, LocalDate.now(), java.time.LocalTime.now())).isCompletedExceptionally();
+	}
+}
@@ -0,0 +1,72 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.entity.Employee;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeSearchIndexTest {
+
+	@Autowired
+	private EmployeeSearchIndex index;
+
+	@Autowired
+	private EmployeeService employees;
+
+	@Test
+	void ranksPrefixMatchesAndFollowsWrites() {
+		index.search("warmup", 1); // load the index before the writes
+		Employee priya = employees.postEmployee(employee("Priya Zyland", "priya@search.test", "Pune"));
+		Employee other = employees.postEmployee(employee("Rahul Mehta", "rahul@search.test", "Zylandia"));
+
+		assertThat(index.search("zyl", 10)).extracting(EmployeeSearchIndex.Hit::id)
+				.containsExactly(priya.getId(), other.getId());
+		assertThat(index.search("ZYLAND pri", 10)).extracting(EmployeeSearchIndex.Hit::id)
+				.containsExactly(priya.getId());
+		assertThat(index.suggest("rahul@sea", 5)).extracting(EmployeeSearchIndex.Suggestion::name)
+				.containsExactly("Rahul Mehta");
+
+		Employee renamed = employee("Priya Kapoor", "priya@search.test", "Pune");
+		employees.updateEmployee(renamed, priya.getId());
+		assertThat(index.search("zyland", 10)).extracting(EmployeeSearchIndex.Hit::id).containsExactly(other.getId());
+		assertThat(index.search("kapoor", 10)).extracting(EmployeeSearchIndex.Hit::id).containsExactly(priya.getId());
+
+		employees.deleteEmployee(other.getId());
+		assertThat(index.search("zyl", 10)).isEmpty();
+	}
+
+	@Test
+	void aPrefixHittingTwoTokensOfOneNameReturnsTheEmployeeOnce() {
+		EmployeeSearchIndex fresh = new EmployeeSearchIndex();
+		fresh.load(List.of(row(1L, "John Jones"), row(2L, "Jack Smith")));
+
+		assertThat(fresh.search("j", 10)).extracting(EmployeeSearchIndex.Hit::id).containsExactly(2L, 1L); // by matched token: jack, then john
+	}
+
+	private static Map<String, Object> row(long id, String name) {
+		Map<String, Object> row = new HashMap<>();
+		row.put("id", id);
+		row.put("name", name);
+		return row;
+	}
+
+	private static Employee employee(String name, String email, String city) {
+		Employee e = new Employee();
+		e.setName(name);
+		e.setEmail(email);
+		e.setCity(city);
+		e.setDepartment("Search");
+		e.setStatus("ACTIVE");
+		return e;
+	}
+}
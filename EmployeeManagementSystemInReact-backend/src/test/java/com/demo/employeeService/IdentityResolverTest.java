@@ -0,0 +1,72 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.UserRepository;
+import com.demo.entity.Employee;
+import com.demo.entity.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdentityResolverTest {
+
+	@Autowired
+	private IdentityResolver identity;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Test
+	void concurrentFirstRequestsCreateOneProfile() throws Exception {
+		User user = userRepo.save(new User(null, "fresh", "fresh@identity.test", "x", "ROLE_USER"));
+		int threads = 16;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Callable<Long>> calls = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				calls.add(() -> {
+					start.await();
+					// profileFor, not resolveId: the user id may equal an existing employee id
+					// once other tests have seeded rows, and employee ids take precedence.
+					return identity.profileFor(user);
+				});
+			}
+			List<Future<Long>> results = new ArrayList<>();
+			for (Callable<Long> call : calls) results.add(pool.submit(call));
+			start.countDown();
+
+			Long first = results.get(0).get();
+			for (Future<Long> f : results) assertThat(f.get()).isEqualTo(first);
+		} finally {
+			pool.shutdownNow();
+		}
+
+		List<Employee> profiles = employeeRepo.findAll().stream()
+				.filter(e -> "fresh@identity.test".equals(e.getEmail()))
+				.toList();
+		assertThat(profiles).hasSize(1);
+	}
+
+	@Test
+	void unknownIdentityResolvesToNull() {
+		assertThat(identity.resolveId(987654L)).isNull();
+	}
+}
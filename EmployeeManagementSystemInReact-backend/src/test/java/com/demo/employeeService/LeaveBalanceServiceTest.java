@@ -0,0 +1,114 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.constant.LeaveType;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveBalance;
+import com.demo.entity.LeaveRequest;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveBalanceServiceTest {
+
+	@Autowired
+	private LeaveBalanceService balances;
+
+	@Autowired
+	private LeaveService leaves;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	@Test
+	void approvalsDebitDaysPerYearAndRevocationsCreditThem() {
+		Employee e = new Employee();
+		e.setName("Ledger");
+		e.setEmail("ledger@balance.test");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+		balances.accrue(2030);
+
+		LeaveRequest request = new LeaveRequest();
+		request.setStartDate(LocalDate.of(2030, 12, 30));
+		request.setEndDate(LocalDate.of(2031, 1, 2));
+		request.setType("vacation");
+		LeaveRequest saved = leaves.applyLeave(request, e.getId());
+		leaves.updateLeaveStatus(saved.getId(), "APPROVED");
+
+		assertThat(vacation(e.getId(), 2030).getUsed()).isEqualTo(2.0);
+		assertThat(vacation(e.getId(), 2031).getUsed()).isEqualTo(2.0);
+		assertThat(balances.remaining(e.getId(), 2030)).isEqualTo(LeaveType.totalAnnualDays() - 2.0);
+
+		leaves.updateLeaveStatus(saved.getId(), "REJECTED");
+		assertThat(vacation(e.getId(), 2030).getUsed()).isZero();
+		assertThat(balances.remaining(e.getId(), 2031)).isEqualTo(LeaveType.totalAnnualDays());
+
+		// Re-running the accrual keeps what was used.
+		leaves.updateLeaveStatus(saved.getId(), "APPROVED");
+		balances.accrue(2030);
+		assertThat(vacation(e.getId(), 2030).getUsed()).isEqualTo(2.0);
+	}
+
+	@Test
+	void rebuildCountsApprovalsMadeBeforeTheLedger() {
+		Employee e = new Employee();
+		e.setName("Backfill");
+		e.setEmail("backfill@balance.test");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+
+		// Approved directly in the table, as rows predating the ledger were.
+		LeaveRequest old = new LeaveRequest();
+		old.setEmployee(e);
+		old.setStartDate(LocalDate.of(2032, 3, 1));
+		old.setEndDate(LocalDate.of(2032, 3, 3));
+		old.setType("Annual");
+		old.setStatus("APPROVED");
+		leaveRepo.save(old);
+		assertThat(vacation(e.getId(), 2032).getUsed()).isZero();
+
+		balances.rebuildUsed();
+		assertThat(vacation(e.getId(), 2032).getUsed()).isEqualTo(3.0);
+		balances.rebuildUsed();
+		assertThat(vacation(e.getId(), 2032).getUsed()).isEqualTo(3.0);
+	}
+
+	@Test
+	void clientLabelsMapToLedgerTypesAndUnknownTypesAreRejected() {
+		assertThat(LeaveType.parse("Annual")).isEqualTo(LeaveType.VACATION);
+		assertThat(LeaveType.parse("Personal")).isEqualTo(LeaveType.CASUAL);
+		assertThat(LeaveType.parse("Bereavement")).isEqualTo(LeaveType.CASUAL);
+		assertThat(LeaveType.parse("sick")).isEqualTo(LeaveType.SICK);
+
+		Employee e = new Employee();
+		e.setName("Sabbatical");
+		e.setEmail("sabbatical@balance.test");
+		e = employeeRepo.save(e);
+		LeaveRequest request = new LeaveRequest();
+		request.setStartDate(LocalDate.of(2032, 5, 1));
+		request.setEndDate(LocalDate.of(2032, 5, 2));
+		request.setType("Sabbatical");
+		long id = e.getId();
+		assertThatThrownBy(() -> leaves.applyLeave(request, id)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private LeaveBalance vacation(long employeeId, int year) {
+		List<LeaveBalance> rows = balances.balances(employeeId, year);
+		return rows.stream().filter(b -> "VACATION".equals(b.getType())).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,97 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.dto.LeaveStatusChange;
+import com.demo.dto.LeaveStatusResult;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveBulkStatusTest {
+
+	@Autowired
+	private LeaveService leaves;
+
+	@Autowired
+	private LeaveBalanceService balances;
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Test
+	void appliesEachItemWithItsOwnOutcome() {
+		Employee e = new Employee();
+		e.setName("Bulk");
+		e.setEmail("bulk@status.test");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+
+		LeaveRequest a = leaves.applyLeave(leave(LocalDate.of(2032, 5, 3), LocalDate.of(2032, 5, 4)), e.getId());
+		LeaveRequest b = leaves.applyLeave(leave(LocalDate.of(2032, 6, 1), LocalDate.of(2032, 6, 1)), e.getId());
+		LeaveRequest c = leaves.applyLeave(leave(LocalDate.of(2032, 7, 1), LocalDate.of(2032, 7, 1)), e.getId());
+		leaves.updateLeaveStatus(c.getId(), "REJECTED"); // bumps c's version
+
+		List<LeaveStatusResult> results = leaves.updateLeaveStatuses(List.of(
+				new LeaveStatusChange(a.getId(), "approved", a.getVersion()),
+				new LeaveStatusChange(b.getId(), "APPROVED", null),
+				new LeaveStatusChange(c.getId(), "APPROVED", c.getVersion()),
+				new LeaveStatusChange(424242L, "APPROVED", null),
+				new LeaveStatusChange(b.getId(), "MAYBE", null)));
+
+		assertThat(results).extracting(LeaveStatusResult::outcome)
+				.containsExactly("UPDATED", "UPDATED", "CONFLICT", "NOT_FOUND", "INVALID");
+		assertThat(results.get(0).version()).isEqualTo(a.getVersion() + 1);
+		assertThat(leaveRepo.findById(a.getId()).orElseThrow().getStatus()).isEqualTo("APPROVED");
+		assertThat(leaveRepo.findById(c.getId()).orElseThrow().getStatus()).isEqualTo("REJECTED");
+		assertThat(balances.remaining(e.getId(), 2032)).isEqualTo(24 - 3.0);
+
+		// Replaying the same request changes nothing.
+		assertThat(leaves.updateLeaveStatuses(List.of(new LeaveStatusChange(a.getId(), "APPROVED", null))))
+				.extracting(LeaveStatusResult::outcome).containsExactly("UNCHANGED");
+
+		assertThatThrownBy(() -> leaves.updateLeaveStatus(a.getId(), "REJECTED", a.getVersion()))
+				.isInstanceOf(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	void singleUpdatesNormalizeAndValidateTheStatus() {
+		Employee e = new Employee();
+		e.setName("Single");
+		e.setEmail("single@status.test");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+		LeaveRequest l = leaves.applyLeave(leave(LocalDate.of(2033, 3, 1), LocalDate.of(2033, 3, 2)), e.getId());
+
+		assertThat(leaves.updateLeaveStatus(l.getId(), " approved ", null).getStatus()).isEqualTo("APPROVED");
+		assertThat(balances.balances(e.getId(), 2033)).filteredOn(b -> "CASUAL".equals(b.getType()))
+				.extracting(com.demo.entity.LeaveBalance::getUsed).containsExactly(2.0);
+		assertThatThrownBy(() -> leaves.updateLeaveStatus(l.getId(), "MAYBE", null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(leaveRepo.findById(l.getId()).orElseThrow().getStatus()).isEqualTo("APPROVED");
+	}
+
+	private static LeaveRequest leave(LocalDate start, LocalDate end) {
+		LeaveRequest l = new LeaveRequest();
+		l.setStartDate(start);
+		l.setEndDate(end);
+		l.setType("CASUAL");
+		return l;
+	}
+}
@@ -0,0 +1,93 @@
+package com.demo.employeeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.dto.PunchRecord;
+import com.demo.dto.PunchReport;
+import com.demo.employeeRepository.AttendanceRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.UserRepository;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+import com.demo.entity.User;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PunchIngestionServiceTest {
+
+	@Autowired
+	private PunchIngestionService punches;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private AttendanceRepository attendanceRepo;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private AttendanceRollupService rollups;
+
+	@Test
+	void pairsPunchesAndIgnoresReplays() {
+		Employee e = new Employee();
+		e.setName("Badge");
+		e.setEmail("badge@punch.test");
+		e.setStatus("ACTIVE");
+		e = employeeRepo.save(e);
+		LocalDate day = LocalDate.of(2026, 3, 2);
+
+		List<PunchRecord> buffer = List.of(
+				new PunchRecord(e.getId(), "IN", day.atTime(9, 5), "gate-1"),
+				new PunchRecord(e.getId(), "OUT", day.atTime(13, 0), "gate-1"),
+				new PunchRecord(e.getId(), "IN", day.atTime(14, 0), "gate-2"),
+				new PunchRecord(e.getId(), "OUT", day.atTime(17, 35), "gate-2"),
+				new PunchRecord(e.getId(), "SIDEWAYS", day.atTime(10, 0), "gate-2"),
+				new PunchRecord(999_999L, "IN", day.atTime(9, 0), "gate-2"));
+
+		PunchReport first = punches.ingest(buffer);
+		assertThat(first.getInserted()).isEqualTo(1);
+		assertThat(first.getRejected()).isEqualTo(2);
+
+		PunchReport replay = punches.ingest(buffer);
+		assertThat(replay.getInserted()).isZero();
+		assertThat(replay.getUpdated()).isZero();
+		assertThat(replay.getUnchanged()).isEqualTo(1);
+
+		PunchReport late = punches.ingest(List.of(new PunchRecord(e.getId(), "OUT", LocalDateTime.of(day, LocalTime.of(18, 5)), "gate-1")));
+		assertThat(late.getUpdated()).isEqualTo(1);
+
+		Attendance row = attendanceRepo.findByEmployeeAndDate(e, day).orElseThrow();
+		assertThat(row.getCheckIn()).isEqualTo(LocalTime.of(9, 5));
+		assertThat(row.getCheckOut()).isEqualTo(LocalTime.of(18, 5));
+		assertThat(row.getWorkingHours()).isEqualTo(9.0);
+
+		AttendanceRollupService.Summary summary = rollups.summary(e.getId());
+		assertThat(summary.days()).isEqualTo(1);
+		assertThat(summary.totalHours()).isEqualTo(9.0);
+		rollups.rebuild();
+		assertThat(rollups.summary(e.getId())).isEqualTo(summary);
+	}
+
+	@Test
+	void unknownBadgeIdsAreRejectedWithoutCreatingProfiles() {
+		User user = userRepo.save(new User(null, "No profile", "noprofile@punch.test", "x", "ROLE_USER"));
+
+		PunchReport report = punches.ingest(List.of(new PunchRecord(user.getId(), "IN", LocalDate.of(2026, 3, 3).atTime(9, 0), "gate-1")));
+
+		assertThat(employeeRepo.findByEmail("noprofile@punch.test")).isEmpty();
+		assertThat(report.getInserted() + report.getRejected()).isEqualTo(1);
+	}
+}
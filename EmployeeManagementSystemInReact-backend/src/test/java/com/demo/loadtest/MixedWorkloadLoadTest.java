@@ -0,0 +1,290 @@
+package com.demo.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.demo.employeeRepository.AttendanceRepository;
+import com.demo.employeeRepository.EmployeeRepository;
+import com.demo.employeeRepository.LeaveRepository;
+import com.demo.employeeRepository.UserRepository;
+import com.demo.entity.Attendance;
+import com.demo.entity.Employee;
+import com.demo.entity.LeaveRequest;
+import com.demo.entity.User;
+import com.demo.util.JwtTokenProvider;
+
+/**
+ * End-to-end throughput of the whole application over HTTP, on the in-memory
+ * database. Excluded from the normal build; run with
+ * {@code mvn -Ploadtest test} and size it with {@code -Dload.employees},
+ * {@code -Dload.threads}, {@code -Dload.logins} and {@code -Dload.polls}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class MixedWorkloadLoadTest {
+
+	private static final int EMPLOYEES = Integer.getInteger("load.employees", 500);
+	private static final int THREADS = Integer.getInteger("load.threads", 32);
+	private static final int LOGINS = Integer.getInteger("load.logins", 200);
+	private static final int POLLS = Integer.getInteger("load.polls", 2000);
+	private static final String PASSWORD = "load-test-password";
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private UserRepository userRepo;
+
+	@Autowired
+	private EmployeeRepository employeeRepo;
+
+	@Autowired
+	private AttendanceRepository attendanceRepo;
+
+	@Autowired
+	private LeaveRepository leaveRepo;
+
+	@Autowired
+	private PasswordEncoder encoder;
+
+	@Autowired
+	private JwtTokenProvider jwt;
+
+	private final HttpClient http = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+
+	private final List<String> report = new ArrayList<>();
+	private ExecutorService pool;
+	private String adminToken;
+	private final List<Long> employeeIds = new ArrayList<>();
+	private final List<String> userTokens = new ArrayList<>();
+	private final List<Long> pendingLeaveIds = new ArrayList<>();
+
+	@BeforeAll
+	void seed() {
+		pool = Executors.newFixedThreadPool(THREADS);
+
+		// BCrypt is the cost under test in the login storm, so hash once and share it.
+		String hash = encoder.encode(PASSWORD);
+		userRepo.save(new User(null, "admin", "admin@load.test", hash, "ROLE_ADMIN"));
+		adminToken = jwt.generateToken("admin@load.test", "ROLE_ADMIN", 0);
+
+		LocalDate today = LocalDate.now();
+		List<User> users = new ArrayList<>();
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			String email = "employee" + i + "@load.test";
+			users.add(new User(null, "employee" + i, email, hash, "ROLE_USER"));
+
+			Employee e = new Employee();
+			e.setName("Employee " + i);
+			e.setEmail(email);
+			e.setDepartment(i % 3 == 0 ? "Engineering" : i % 3 == 1 ? "Sales" : "Finance");
+			e.setDesignation("Associate");
+			e.setStatus(i % 10 == 0 ? "INACTIVE" : "ACTIVE");
+			e.setJoiningDate(today.minusDays(i));
+			e.setSalary(50000.0 + i);
+			employees.add(e);
+		}
+		userRepo.saveAll(users);
+		employeeRepo.saveAll(employees);
+
+		List<Attendance> history = new ArrayList<>();
+		List<LeaveRequest> leaves = new ArrayList<>();
+		for (Employee e : employees) {
+			employeeIds.add(e.getId());
+			userTokens.add(jwt.generateToken(e.getEmail(), "ROLE_USER", 0));
+			for (int d = 1; d <= 20; d++) {
+				Attendance a = new Attendance();
+				a.setEmployee(e);
+				a.setDate(today.minusDays(d));
+				a.setCheckIn(LocalTime.of(9, 0));
+				a.setCheckOut(LocalTime.of(17, 30));
+				a.setWorkingHours(8.5);
+				history.add(a);
+			}
+			for (int l = 0; l < 2; l++) {
+				LeaveRequest leave = new LeaveRequest();
+				leave.setEmployee(e);
+				leave.setStartDate(today.plusDays(7 + l * 7));
+				leave.setEndDate(today.plusDays(8 + l * 7));
+				leave.setType("CASUAL");
+				leave.setReason("Load test");
+				leave.setStatus("PENDING");
+				leaves.add(leave);
+			}
+		}
+		attendanceRepo.saveAll(history);
+		leaveRepo.saveAll(leaves);
+		leaves.forEach(l -> pendingLeaveIds.add(l.getId()));
+	}
+
+	@AfterAll
+	void printReport() {
+		pool.shutdownNow();
+		System.out.printf("%nLoad test: %d employees, %d client threads%n", EMPLOYEES, THREADS);
+		System.out.printf("%-22s %8s %8s %10s %10s %10s%n", "workload", "requests", "errors", "p50 ms", "p99 ms", "req/s");
+		report.forEach(System.out::println);
+	}
+
+	@Test
+	@Order(1)
+	void loginStorm() throws Exception {
+		Result result = run("login storm", LOGINS, i -> post("/api/auth/login", null,
+				"{\"email\":\"employee" + (i % EMPLOYEES) + "@load.test\",\"password\":\"" + PASSWORD + "\"}"));
+		assertThat(result.errors).isZero();
+	}
+
+	@Test
+	@Order(2)
+	void morningCheckInRush() throws Exception {
+		// Every employee punches in once; a tenth of them double-click.
+		int requests = EMPLOYEES + EMPLOYEES / 10;
+		Result result = run("check-in rush", requests, i -> {
+			int e = i % EMPLOYEES;
+			return post("/api/attendance/check-in/" + employeeIds.get(e), userTokens.get(e), null);
+		});
+		assertThat(result.errors).isLessThanOrEqualTo(requests - EMPLOYEES);
+	}
+
+	@Test
+	@Order(3)
+	void dashboardPolling() throws Exception {
+		Result result = run("dashboard polling", POLLS, i -> i % 4 == 0
+				? get("/api/dashboard/stats", adminToken)
+				: get("/api/dashboard/stats", userTokens.get(i % EMPLOYEES)));
+		assertThat(result.errors).isZero();
+	}
+
+	@Test
+	@Order(4)
+	void leaveApprovals() throws Exception {
+		List<Long> batch = pendingLeaveIds.subList(0, pendingLeaveIds.size() / 2);
+		Result result = run("leave approvals", batch.size(), i -> patch(
+				"/api/leaves/" + batch.get(i) + "/status?status=" + (i % 5 == 0 ? "REJECTED" : "APPROVED"), adminToken));
+		assertThat(result.errors).isZero();
+	}
+
+	@Test
+	@Order(5)
+	void mixed() throws Exception {
+		List<Long> batch = pendingLeaveIds.subList(pendingLeaveIds.size() / 2, pendingLeaveIds.size());
+		AtomicInteger nextLeave = new AtomicInteger();
+		int requests = POLLS + batch.size() + LOGINS / 4;
+		Result result = run("mixed", requests, i -> {
+			int slot = i % 20;
+			if (slot == 0 && i / 20 < LOGINS / 4) {
+				return post("/api/auth/login", null,
+						"{\"email\":\"employee" + (i % EMPLOYEES) + "@load.test\",\"password\":\"" + PASSWORD + "\"}");
+			}
+			int leave = slot < 4 ? nextLeave.getAndIncrement() : batch.size();
+			if (leave < batch.size()) {
+				return patch("/api/leaves/" + batch.get(leave) + "/status?status=APPROVED", adminToken);
+			}
+			return get("/api/dashboard/stats", userTokens.get(i % EMPLOYEES));
+		});
+		assertThat(result.errors).isZero();
+	}
+
+	// ---- driver ----
+
+	private interface Call {
+		HttpRequest request(int i);
+	}
+
+	private record Result(int requests, int errors, double p50Millis, double p99Millis, double throughput) {}
+
+	private Result run(String name, int requests, Call call) throws Exception {
+		long[] latencies = new long[requests];
+		AtomicInteger errors = new AtomicInteger();
+		List<Callable<Void>> tasks = new ArrayList<>(requests);
+		for (int i = 0; i < requests; i++) {
+			int n = i;
+			tasks.add(() -> {
+				HttpRequest request = call.request(n);
+				long start = System.nanoTime();
+				try {
+					HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+					if (response.statusCode() >= 400) errors.incrementAndGet();
+				} catch (java.io.IOException e) {
+					errors.incrementAndGet();
+				}
+				latencies[n] = System.nanoTime() - start;
+				return null;
+			});
+		}
+
+		long start = System.nanoTime();
+		for (Future<Void> f : pool.invokeAll(tasks)) f.get();
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		Arrays.sort(latencies);
+		Result result = new Result(requests, errors.get(),
+				percentile(latencies, 0.50), percentile(latencies, 0.99), requests / seconds);
+		report.add(String.format("%-22s %8d %8d %10.2f %10.2f %10.1f",
+				name, result.requests(), result.errors(), result.p50Millis(), result.p99Millis(), result.throughput()));
+		return result;
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		if (sorted.length == 0) return 0;
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+	}
+
+	private HttpRequest get(String path, String token) {
+		return request(path, token).GET().build();
+	}
+
+	private HttpRequest post(String path, String token, String json) {
+		return request(path, token)
+				.header("Content-Type", "application/json")
+				.POST(json != null ? HttpRequest.BodyPublishers.ofString(json) : HttpRequest.BodyPublishers.noBody())
+				.build();
+	}
+
+	private HttpRequest patch(String path, String token) {
+		return request(path, token).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+	}
+
+	private HttpRequest.Builder request(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.timeout(Duration.ofSeconds(30));
+		if (token != null) builder.header("Authorization", "Bearer " + token);
+		return builder;
+	}
+}
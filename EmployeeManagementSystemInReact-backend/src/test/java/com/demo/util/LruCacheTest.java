@@ -0,0 +1,21 @@
+package com.demo.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+	@Test
+	void evictsTheLeastRecentlyUsedOnceOverTheLimit() throws Exception {
+		LruCache<Integer, String> cache = new LruCache<>(10);
+		for (int i = 0; i < 10; i++) cache.put(i, "v" + i);
+		Thread.sleep(1);
+		assertThat(cache.get(0)).isEqualTo("v0");
+
+		cache.put(10, "v10");
+		assertThat(cache.size()).isLessThanOrEqualTo(10);
+		assertThat(cache.get(0)).isEqualTo("v0");
+		assertThat(cache.get(10)).isEqualTo("v10");
+	}
+}
@@ -0,0 +1,43 @@
+package com.demo.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SeedGateTest {
+
+	@Test
+	void writesDuringALoadAreReplayedAfterIt() {
+		SeedGate gate = new SeedGate();
+		List<String> state = new ArrayList<>();
+
+		gate.run(() -> state.add("before any load")); // dropped: the load reads it from the table
+		long token = gate.begin();
+		gate.run(() -> state.add("raced the load"));
+		assertThat(state).isEmpty();
+
+		assertThat(gate.complete(token, () -> state.add("loaded"))).isTrue();
+		assertThat(state).containsExactly("loaded", "raced the load");
+		gate.run(() -> state.add("after"));
+		assertThat(state).endsWith("after");
+	}
+
+	@Test
+	void resetDiscardsALoadInProgress() {
+		SeedGate gate = new SeedGate();
+		List<String> state = new ArrayList<>();
+
+		long stale = gate.begin();
+		gate.reset();
+		assertThat(gate.complete(stale, () -> state.add("stale"))).isFalse();
+		assertThat(gate.isReady()).isFalse();
+		assertThat(state).isEmpty();
+
+		long fresh = gate.begin();
+		assertThat(gate.complete(fresh, () -> state.add("fresh"))).isTrue();
+		assertThat(gate.isReady()).isTrue();
+	}
+}